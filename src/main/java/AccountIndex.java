@@ -0,0 +1,162 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index from account number to row position. Plain numeric account
+ * numbers (the normal case) are parsed to a primitive long and kept in an
+ * open-addressing table, so lookups don't box or hash Strings. Anything
+ * else, like leading zeros or letters, falls back to a regular HashMap.
+ */
+
+public class AccountIndex {
+    public static final int NOT_FOUND = -1;
+
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_NUMERIC_DIGITS = 18;
+
+    private long[] keys;
+    private int[] rows;
+    private int mask;
+    private int numericCount;
+    private final Map<String, Integer> otherKeys;
+
+    public AccountIndex() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.rows = new int[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.otherKeys = new HashMap<>();
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // Map an account number to a row, keeping the existing row if it's already indexed
+    public void putIfAbsent(String accountNumber, int row) {
+        insert(accountNumber, row, false);
+    }
+
+    // Map an account number to a row, replacing any existing mapping
+    public void put(String accountNumber, int row) {
+        insert(accountNumber, row, true);
+    }
+
+    public void remove(String accountNumber) {
+        if (accountNumber == null) return;
+
+        long key = toKey(accountNumber);
+        if (key == EMPTY) {
+            otherKeys.remove(accountNumber);
+            return;
+        }
+
+        int slot = findSlot(keys, mask, key);
+        if (keys[slot] == EMPTY) return;
+        numericCount--;
+
+        // Backward-shift deletion: pull later entries of the probe run into the hole so
+        // lookups never stop early at it
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                rows[hole] = rows[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+    }
+
+    public int get(String accountNumber) {
+        if (accountNumber == null) return NOT_FOUND;
+
+        long key = toKey(accountNumber);
+        if (key == EMPTY) {
+            return otherKeys.getOrDefault(accountNumber, NOT_FOUND);
+        }
+
+        int slot = findSlot(keys, mask, key);
+        return keys[slot] == EMPTY ? NOT_FOUND : rows[slot];
+    }
+
+    public int size() { return numericCount + otherKeys.size(); }
+
+    private void insert(String accountNumber, int row, boolean overwrite) {
+        if (accountNumber == null) return;
+
+        long key = toKey(accountNumber);
+        if (key == EMPTY) {
+            if (overwrite) otherKeys.put(accountNumber, row);
+            else otherKeys.putIfAbsent(accountNumber, row);
+            return;
+        }
+
+        if ((numericCount + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int slot = findSlot(keys, mask, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            rows[slot] = row;
+            numericCount++;
+        } else if (overwrite) {
+            rows[slot] = row;
+        }
+    }
+
+    // Parse a canonical, non-negative decimal number (no sign, no leading zeros), or EMPTY if it isn't one
+    private static long toKey(String accountNumber) {
+        int length = accountNumber.length();
+        if (length == 0 || length > MAX_NUMERIC_DIGITS) return EMPTY;
+        if (length > 1 && accountNumber.charAt(0) == '0') return EMPTY;
+
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') return EMPTY;
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    // Linear probing, returns either the slot holding the key or the empty slot where it belongs
+    private static int findSlot(long[] keys, int mask, long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Finalizer from MurmurHash3, spreads sequential account numbers across the table
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private void resize(int capacity) {
+        long[] newKeys = new long[capacity];
+        int[] newRows = new int[capacity];
+        int newMask = capacity - 1;
+        Arrays.fill(newKeys, EMPTY);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                int slot = findSlot(newKeys, newMask, keys[i]);
+                newKeys[slot] = keys[i];
+                newRows[slot] = rows[i];
+            }
+        }
+
+        keys = newKeys;
+        rows = newRows;
+        mask = newMask;
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Names of the columns in the City of Edmonton assessment CSV, and their
+ * positions in a particular file once bound to its header. Binding checks
+ * every column PropertyAssessment needs up front; the ones it doesn't need
+ * (neighbourhood ID and the POINT text) are never turned into Strings.
+ */
+
+public class AssessmentColumns {
+    public static final String ACCOUNT_NUMBER = "Account Number";
+    public static final String SUITE = "Suite";
+    public static final String HOUSE_NUMBER = "House Number";
+    public static final String STREET_NAME = "Street Name";
+    public static final String GARAGE = "Garage";
+    public static final String NEIGHBOURHOOD_ID = "Neighbourhood ID";
+    public static final String NEIGHBOURHOOD = "Neighbourhood";
+    public static final String WARD = "Ward";
+    public static final String ASSESSED_VALUE = "Assessed Value";
+    public static final String LATITUDE = "Latitude";
+    public static final String LONGITUDE = "Longitude";
+    public static final String POINT_LOCATION = "Point Location";
+    public static final String[] CLASS_PERCENTAGES = {
+            "Assessment Class % 1", "Assessment Class % 2", "Assessment Class % 3"};
+    public static final String[] CLASSES = {
+            "Assessment Class 1", "Assessment Class 2", "Assessment Class 3"};
+
+    // Positions in the bound file
+    final int accountNumber;
+    final int suite;
+    final int houseNumber;
+    final int streetName;
+    final int garage;
+    final int neighbourhood;
+    final int ward;
+    final int assessedValue;
+    final int latitude;
+    final int longitude;
+    final int[] classPercentages;
+    final int[] classes;
+
+    private AssessmentColumns(CsvSchema schema) {
+        int[] positions = schema.require(ACCOUNT_NUMBER, SUITE, HOUSE_NUMBER, STREET_NAME, GARAGE,
+                NEIGHBOURHOOD, WARD, ASSESSED_VALUE, LATITUDE, LONGITUDE);
+        this.accountNumber = positions[0];
+        this.suite = positions[1];
+        this.houseNumber = positions[2];
+        this.streetName = positions[3];
+        this.garage = positions[4];
+        this.neighbourhood = positions[5];
+        this.ward = positions[6];
+        this.assessedValue = positions[7];
+        this.latitude = positions[8];
+        this.longitude = positions[9];
+        this.classPercentages = schema.require(CLASS_PERCENTAGES);
+        this.classes = schema.require(CLASSES);
+    }
+
+    // Resolve every column PropertyAssessment reads, failing if the header lacks any of them
+    public static AssessmentColumns bind(CsvSchema schema) {
+        return new AssessmentColumns(schema);
+    }
+}
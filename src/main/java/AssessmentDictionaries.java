@@ -0,0 +1,15 @@
+/**
+ * Dictionaries for the PropertyAssessment columns that repeat across many
+ * rows (street, garage, neighbourhood, ward and assessment class). Each
+ * PropertyAssessments collection owns one set and hands it to the parser,
+ * so rows read into the same collection share one instance of each value,
+ * and the values go away with the collection.
+ */
+
+public class AssessmentDictionaries {
+    final StringDictionary streets = new StringDictionary();
+    final StringDictionary garages = new StringDictionary();
+    final StringDictionary neighbourhoods = new StringDictionary();
+    final StringDictionary wards = new StringDictionary();
+    final StringDictionary assessmentClasses = StringDictionary.ignoringCase(); // Codes key the class index
+}
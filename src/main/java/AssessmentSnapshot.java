@@ -0,0 +1,277 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of a parsed assessment file, so repeated runs can skip CSV
+ * parsing. The payload is the columnar, dictionary-encoded form of the data
+ * in little-endian order, preceded by a fixed header holding the size and a
+ * CRC32C of the source CSV's contents (to detect a stale snapshot) and CRCs
+ * of both the payload and the header itself. Snapshots are read through a
+ * memory mapping and are only written when asked for (see refresh). Loading
+ * one still rebuilds every PropertyAssessment and index, so it replaces the
+ * parse rather than the whole startup.
+ */
+
+public class AssessmentSnapshot {
+    private static final int MAGIC = 0x50414E53; // "SNAP" once written little-endian
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 44;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    private static final long HASH_WINDOW_BYTES = 1L << 30;
+
+    // Snapshot file used for a given CSV, stored next to it
+    public static Path snapshotPathFor(Path csvPath) {
+        return csvPath.resolveSibling(csvPath.getFileName() + ".snapshot");
+    }
+
+    // Load from the snapshot if it matches the CSV, otherwise parse the CSV. Never writes a snapshot.
+    public static PropertyAssessments load(Path csvPath, int threads) throws IOException {
+        Path snapshotPath = snapshotPathFor(csvPath);
+        if (isFresh(snapshotPath, csvPath)) {
+            try {
+                return read(snapshotPath);
+            } catch (IOException | RuntimeException e) {
+                // Unreadable or corrupt snapshot, fall back to the CSV
+            }
+        }
+        return PropertyAssessments.loadCsv(csvPath, threads);
+    }
+
+    // Write the snapshot next to the CSV unless an intact one for its current contents is already
+    // there. Returns whether a snapshot was written.
+    public static boolean refresh(PropertyAssessments assessments, Path csvPath) throws IOException {
+        Path snapshotPath = snapshotPathFor(csvPath);
+        if (isFresh(snapshotPath, csvPath)) {
+            try {
+                readColumns(snapshotPath);
+                return false;
+            } catch (IOException | RuntimeException e) {
+                // Damaged payload behind a valid header, so write it again
+            }
+        }
+        write(assessments, snapshotPath, csvPath);
+        return true;
+    }
+
+    // True when the snapshot exists, has an intact header and was written from the CSV as it is now
+    public static boolean isFresh(Path snapshotPath, Path csvPath) throws IOException {
+        if (!Files.isRegularFile(snapshotPath) || Files.size(snapshotPath) < HEADER_BYTES) return false;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // Keep reading until the header is complete
+            }
+        }
+        header.flip();
+        return header.remaining() == HEADER_BYTES && isValidHeader(header)
+                && header.getLong(8) == Files.size(csvPath)
+                && header.getLong(16) == contentHash(csvPath);
+    }
+
+    // Write the collection as a snapshot fingerprinted with the given source CSV.
+    // The file is written next to its final name and moved into place once complete.
+    public static void write(PropertyAssessments assessments, Path snapshotPath, Path csvPath) throws IOException {
+        ColumnarAssessments columns = assessments.toColumnar();
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_BYTES);
+                SnapshotOutput out = new SnapshotOutput(channel);
+                columns.writeTo(out);
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(Files.size(csvPath))
+                        .putLong(contentHash(csvPath))
+                        .putInt(columns.size())
+                        .putLong(out.written)
+                        .putInt((int) out.crc.getValue());
+                header.putInt(headerCrc(header));
+                header.flip();
+                channel.write(header, 0);
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath); // Don't leave a half-written file behind
+            throw e;
+        }
+    }
+
+    // Map a snapshot and rebuild the collection, failing with an IOException if it's damaged
+    public static PropertyAssessments read(Path snapshotPath) throws IOException {
+        return readColumns(snapshotPath).toPropertyAssessments();
+    }
+
+    public static ColumnarAssessments readColumns(Path snapshotPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot too short: " + snapshotPath);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshots over 2 GB can't be mapped in one piece: " + snapshotPath);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (!isValidHeader(buffer)) {
+                throw new IOException("Snapshot header is damaged or from another version: " + snapshotPath);
+            }
+
+            long payloadBytes = buffer.getLong(28);
+            if (payloadBytes != size - HEADER_BYTES) {
+                throw new IOException("Snapshot payload is truncated: " + snapshotPath);
+            }
+
+            ByteBuffer payload = buffer.slice(HEADER_BYTES, (int) payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(36)) {
+                throw new IOException("Snapshot payload checksum mismatch: " + snapshotPath);
+            }
+
+            ColumnarAssessments columns = ColumnarAssessments.readFrom(payload);
+            if (columns.size() != buffer.getInt(24)) {
+                throw new IOException("Snapshot row count mismatch: " + snapshotPath);
+            }
+            return columns;
+        }
+    }
+
+    // CRC32C of the whole file, read through memory mappings of up to 1 GB at a time
+    private static long contentHash(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += HASH_WINDOW_BYTES) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(HASH_WINDOW_BYTES, size - position)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static boolean isValidHeader(ByteBuffer header) {
+        return header.getInt(0) == MAGIC && header.getInt(4) == VERSION
+                && header.getInt(HEADER_BYTES - 4) == headerCrc(header);
+    }
+
+    // CRC over every header field before the checksum itself
+    private static int headerCrc(ByteBuffer header) {
+        CRC32 crc = new CRC32();
+        crc.update(header.duplicate().position(0).limit(HEADER_BYTES - 4));
+        return (int) crc.getValue();
+    }
+
+    // Strings are a length (-1 for null) followed by that many UTF-8 bytes
+    static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void getInts(ByteBuffer in, int[] target, int count) {
+        in.asIntBuffer().get(target, 0, count);
+        in.position(in.position() + count * Integer.BYTES);
+    }
+
+    static void getLongs(ByteBuffer in, long[] target, int count) {
+        in.asLongBuffer().get(target, 0, count);
+        in.position(in.position() + count * Long.BYTES);
+    }
+
+    static void getDoubles(ByteBuffer in, double[] target, int count) {
+        in.asDoubleBuffer().get(target, 0, count);
+        in.position(in.position() + count * Double.BYTES);
+    }
+
+    /**
+     * Buffered little-endian writer over a file channel that keeps a running
+     * CRC and byte count of everything written.
+     */
+    static class SnapshotOutput {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32 crc = new CRC32();
+        private long written;
+
+        SnapshotOutput(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            putBytes(bytes, bytes.length);
+        }
+
+        void putBytes(byte[] values, int count) throws IOException {
+            int offset = 0;
+            while (offset < count) {
+                ensureRoom(1);
+                int chunk = Math.min(count - offset, buffer.remaining());
+                buffer.put(values, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        void putInts(int[] values, int count) throws IOException {
+            for (int i = 0; i < count; i++) putInt(values[i]);
+        }
+
+        void putLongs(long[] values, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                ensureRoom(Long.BYTES);
+                buffer.putLong(values[i]);
+            }
+        }
+
+        void putDoubles(double[] values, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                ensureRoom(Double.BYTES);
+                buffer.putDouble(values[i]);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            written += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable summary statistics for a set of assessed values, as produced by
+ * CalculateStatistics. Replaces passing around Map<String, Object> and
+ * casting, with adapters to and from the older map form.
+ */
+
+public record AssessmentStats(int count, long min, long max, long range, long sum, double mean, long median) {
+    public static final AssessmentStats EMPTY = new AssessmentStats(0, 0L, 0L, 0L, 0L, 0.0, 0L);
+
+    public boolean isEmpty() { return count == 0; }
+
+    // Full map, in the shape returned by CalculateStatistics.calculateAllStats
+    public Map<String, Object> toMap() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("count", count);
+        stats.put("min", min);
+        stats.put("max", max);
+        stats.put("range", range);
+        stats.put("mean", mean);
+        stats.put("median", median);
+        return stats;
+    }
+
+    // Count, mean and median only, in the shape of the neighbourhood and class statistics
+    public Map<String, Object> toSummaryMap() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("count", count);
+        stats.put("mean", mean);
+        stats.put("median", median);
+        return stats;
+    }
+
+    // Read a stats map back in, with missing entries defaulting to zero
+    public static AssessmentStats fromMap(Map<String, Object> stats) {
+        int count = ((Number) stats.getOrDefault("count", 0)).intValue();
+        double mean = ((Number) stats.getOrDefault("mean", 0.0)).doubleValue();
+
+        return new AssessmentStats(
+                count,
+                ((Number) stats.getOrDefault("min", 0L)).longValue(),
+                ((Number) stats.getOrDefault("max", 0L)).longValue(),
+                ((Number) stats.getOrDefault("range", 0L)).longValue(),
+                Math.round(mean * count), // Maps don't carry the sum, so rebuild it from the mean
+                mean,
+                ((Number) stats.getOrDefault("median", 0L)).longValue()
+        );
+    }
+}
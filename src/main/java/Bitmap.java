@@ -0,0 +1,145 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compact set of row numbers stored as a bitset (one bit per row in a
+ * long[]), used to index which rows have a given property. Combining
+ * bitmaps with and/or/andNot works a word (64 rows) at a time, and
+ * iteration skips empty words.
+ */
+
+public class Bitmap {
+    private long[] words;
+
+    public Bitmap() {
+        this.words = new long[16];
+    }
+
+    private Bitmap(long[] words) {
+        this.words = words;
+    }
+
+    public void set(int row) {
+        if (row < 0) throw new IndexOutOfBoundsException("Negative row: " + row);
+        int word = row >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << row;
+    }
+
+    public void clear(int row) {
+        int word = row >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << row);
+        }
+    }
+
+    public boolean get(int row) {
+        int word = row >>> 6;
+        return word < words.length && (words[word] & (1L << row)) != 0;
+    }
+
+    // Number of rows in the set
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    // First row at or after `from` that's in the set, or -1 if there isn't one
+    public int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word >= words.length) return -1;
+
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == words.length) return -1;
+            bits = words[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                action.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // Rows in both sets
+    public Bitmap and(Bitmap other) {
+        long[] result = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new Bitmap(result);
+    }
+
+    // Rows in either set
+    public Bitmap or(Bitmap other) {
+        long[] result = Arrays.copyOf(words, Math.max(words.length, other.words.length));
+        for (int i = 0; i < other.words.length; i++) {
+            result[i] |= other.words[i];
+        }
+        return new Bitmap(result);
+    }
+
+    // Rows in this set but not the other
+    public Bitmap andNot(Bitmap other) {
+        long[] result = words.clone();
+        int shared = Math.min(words.length, other.words.length);
+        for (int i = 0; i < shared; i++) {
+            result[i] &= ~other.words[i];
+        }
+        return new Bitmap(result);
+    }
+
+    public Bitmap copy() {
+        return new Bitmap(words.clone());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Bitmap that = (Bitmap) o;
+
+        // Trailing empty words don't matter
+        int shared = Math.min(words.length, that.words.length);
+        for (int i = 0; i < shared; i++) {
+            if (words[i] != that.words[i]) return false;
+        }
+        long[] longer = words.length > shared ? words : that.words;
+        for (int i = shared; i < longer.length; i++) {
+            if (longer[i] != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int last = words.length - 1;
+        while (last >= 0 && words[last] == 0) last--;
+        return Arrays.hashCode(Arrays.copyOf(words, last + 1));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rows = new StringBuilder("{");
+        forEach(row -> rows.append(rows.length() > 1 ? ", " : "").append(row));
+        return rows.append('}').toString();
+    }
+}
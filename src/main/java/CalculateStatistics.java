@@ -1,47 +1,229 @@
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
 
 /**
  * Utility class for calculating statistical measures (mean, median, etc.)
  * on collections of property assessments, including filtering by class name.
+ * Values are handled as primitive long arrays: count, min, max and sum come
+ * from a single pass and the median from a selection (no full sort). Full
+ * distributions (percentiles and standard deviation) take one sort, after
+ * which every percentile is a direct lookup.
  */
 
 public class CalculateStatistics {
     public static Map<String, Object> calculateAssessmentClassStats(
             Collection<PropertyAssessment> allProperties, String className) {
-        // Filter properties where the class name matches case-insensitively
-        List<PropertyAssessment> properties = allProperties.stream()
-                .filter(p -> hasClassIgnoreCase(p, className))
-                .toList();
-
-        Map<String, Object> stats = new HashMap<>();
-
-        if (properties.isEmpty()) {
-            stats.put("count", 0);
-            stats.put("mean", 0.0);
-            stats.put("median", 0L);
-            return stats;
+        return computeClassStats(allProperties, className).toSummaryMap();
+    }
+
+    // Calculate all statistics for a collection of property assessments
+    public static Map<String, Object> calculateAllStats(Collection<PropertyAssessment> properties) {
+        return computeStats(properties).toMap();
+    }
+
+    // Calculate all statistics straight from assessed values (the array is reordered in place)
+    public static Map<String, Object> calculateValueStats(long[] values) {
+        return computeStats(values, values.length).toMap();
+    }
+
+    // Calculate neighbourhood statistics with mean and median
+    public static Map<String, Object> calculateNeighbourhoodStats(Collection<PropertyAssessment> properties) {
+        return computeStats(properties).toSummaryMap();
+    }
+
+    public static AssessmentStats computeStats(Collection<PropertyAssessment> properties) {
+        if (properties == null) return AssessmentStats.EMPTY;
+
+        long[] values = valuesOf(properties);
+        return computeStats(values, values.length);
+    }
+
+    public static Map<String, Object> calculateAssessmentClassStats(PropertyAssessments assessments, String className) {
+        return computeClassStats(assessments, className).toSummaryMap();
+    }
+
+    // A loaded collection answers from its class index: the class name is coded once through the
+    // collection's dictionary, and only the rows in that class's bitmap are read
+    public static AssessmentStats computeClassStats(PropertyAssessments assessments, String className) {
+        return assessments.getAssessmentClassStats(className);
+    }
+
+    // Loose rows carry no class codes, so this scan matches names. Coding each row's classes through
+    // a dictionary here would cost a hash lookup per class, more than the compare it replaces.
+    public static AssessmentStats computeClassStats(Collection<PropertyAssessment> allProperties, String className) {
+        // Collect values of properties where the class name matches case-insensitively
+        long[] values = new long[allProperties.size()];
+        int count = 0;
+        for (PropertyAssessment property : allProperties) {
+            if (hasClassIgnoreCase(property, className)) {
+                values[count++] = property.getAssessedValue();
+            }
         }
+        return computeStats(values, count);
+    }
+
+    // Statistics over the rows of `properties` selected by a bitmap (e.g. a class index)
+    public static AssessmentStats computeStats(List<PropertyAssessment> properties, Bitmap rows) {
+        long[] values = valuesOf(properties, rows);
+        return computeStats(values, values.length);
+    }
+
+    public static DistributionStats computeDistribution(Collection<PropertyAssessment> properties) {
+        if (properties == null) return DistributionStats.EMPTY;
+        long[] values = valuesOf(properties);
+        return computeDistribution(values, values.length);
+    }
+
+    public static DistributionStats computeDistribution(List<PropertyAssessment> properties, Bitmap rows) {
+        long[] values = valuesOf(properties, rows);
+        return computeDistribution(values, values.length);
+    }
+
+    // Percentiles and standard deviation of the first `length` values, which get sorted in place
+    // (in parallel for large arrays)
+    public static DistributionStats computeDistribution(long[] values, int length) {
+        sort(values, length);
+        return distributionOfSorted(values, length);
+    }
+
+    // Same, for values that are already in ascending order (e.g. a ValueIndex), without copying them
+    static DistributionStats distributionOfSorted(long[] sorted, int length) {
+        if (length == 0) return DistributionStats.EMPTY;
 
-        return getStringObjectMap(stats, properties.stream(), properties);
+        long sum = 0;
+        for (int i = 0; i < length; i++) sum += sorted[i];
+        double mean = (double) sum / length;
+
+        // Second pass around the mean, which stays accurate where sum-of-squares would cancel out
+        double squares = 0;
+        for (int i = 0; i < length; i++) {
+            double deviation = sorted[i] - mean;
+            squares += deviation * deviation;
+        }
+
+        return new DistributionStats(length, sorted[0], sorted[length - 1], mean, Math.sqrt(squares / length),
+                quantile(sorted, length, 0.05), quantile(sorted, length, 0.25), quantile(sorted, length, 0.5),
+                quantile(sorted, length, 0.75), quantile(sorted, length, 0.95), quantile(sorted, length, 0.99));
+    }
+
+    // Any number of quantiles (each between 0 and 1) of the first `length` values from a single sort,
+    // which reorders them
+    public static double[] quantiles(long[] values, int length, double... probabilities) {
+        sort(values, length);
+        double[] result = new double[probabilities.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            result[i] = quantile(values, length, probabilities[i]);
+        }
+        return result;
     }
 
-    // Helper for mapping count, mean, and median
-    private static Map<String, Object> getStringObjectMap(Map<String, Object> stats, Stream<PropertyAssessment> stream, List<PropertyAssessment> properties) {
-        List<Long> values = stream
-                .mapToLong(PropertyAssessment::getAssessedValue)
-                .boxed()
-                .sorted()
-                .toList();
+    // Quantile of sorted values, interpolating linearly between the two closest ranks
+    // (so 0.5 of an even count is the midpoint of the middle two). NaN when empty.
+    public static double quantile(long[] sorted, int length, double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, got " + probability);
+        }
+        if (length == 0) return Double.NaN;
 
-        stats.put("count", values.size());
-        stats.put("mean", values.stream().mapToLong(v -> v).average().orElse(0.0));
-        stats.put("median", calculateMedian(values));
+        double position = probability * (length - 1);
+        int lower = (int) position;
+        if (lower == length - 1) return sorted[lower];
+        double fraction = position - lower;
+        return sorted[lower] + fraction * (sorted[lower + 1] - sorted[lower]);
+    }
 
-        return stats;
+    // Core of the statistics engine, works on the first `length` values (which may get reordered).
+    // Large arrays are handed to ParallelStatistics.
+    public static AssessmentStats computeStats(long[] values, int length) {
+        if (length >= ParallelStatistics.PARALLEL_THRESHOLD) {
+            return ParallelStatistics.computeStats(values, length);
+        }
+        return computeSequentialStats(values, length);
+    }
+
+    // Single-threaded path, also the fallback for small arrays in ParallelStatistics
+    static AssessmentStats computeSequentialStats(long[] values, int length) {
+        if (length == 0) return AssessmentStats.EMPTY;
+
+        // Single pass for min, max and sum
+        long min = values[0];
+        long max = values[0];
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            long value = values[i];
+            if (value < min) min = value;
+            if (value > max) max = value;
+            sum += value;
+        }
+
+        return new AssessmentStats(length, min, max, max - min, sum,
+                (double) sum / length, calculateMedian(values, length));
+    }
+
+    // Percentile rank of a value among the first `length` sorted values: the percentage valued
+    // below it, counting ties as half below (so the middle of a group sits at 50). NaN when empty.
+    public static double percentileRank(long[] sorted, int length, long value) {
+        if (length == 0) return Double.NaN;
+        int below = lowerBound(sorted, length, value);
+        int ties = upperBound(sorted, length, value) - below;
+        return 100.0 * (below + 0.5 * ties) / length;
+    }
+
+    // First position among the first `length` sorted values holding a value >= `value`
+    static int lowerBound(long[] sorted, int length, long value) {
+        int low = 0, high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < value) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    // First position among the first `length` sorted values holding a value > `value`
+    static int upperBound(long[] sorted, int length, long value) {
+        int low = 0, high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= value) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private static long[] valuesOf(Collection<PropertyAssessment> properties) {
+        long[] values = new long[properties.size()];
+        if (values.length >= ParallelStatistics.PARALLEL_THRESHOLD && properties instanceof List<PropertyAssessment> list
+                && list instanceof RandomAccess) {
+            // Large indexed lists are copied out in parallel as well
+            Arrays.parallelSetAll(values, i -> list.get(i).getAssessedValue());
+        } else {
+            int i = 0;
+            for (PropertyAssessment property : properties) {
+                values[i++] = property.getAssessedValue();
+            }
+        }
+        return values;
+    }
+
+    private static long[] valuesOf(List<PropertyAssessment> properties, Bitmap rows) {
+        long[] values = new long[rows.cardinality()];
+        int count = 0;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            values[count++] = properties.get(row).getAssessedValue();
+        }
+        return values;
+    }
+
+    private static void sort(long[] values, int length) {
+        if (length >= ParallelStatistics.PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(values, 0, length);
+        } else {
+            Arrays.sort(values, 0, length);
+        }
     }
 
     // Helper to check assessment classes
@@ -54,62 +236,72 @@ public class CalculateStatistics {
         return false;
     }
 
-    // Calculate all statistics for a collection of property assessments
-    public static Map<String, Object> calculateAllStats(Collection<PropertyAssessment> properties) {
-        Map<String, Object> stats = new HashMap<>();
-
-        if (properties == null || properties.isEmpty()) {
-            stats.put("count", 0);
-            stats.put("min", 0L);
-            stats.put("max", 0L);
-            stats.put("range", 0L);
-            stats.put("mean", 0.0);
-            stats.put("median", 0L);
-            return stats;
+    // Helper method to calculate median (mean is an existing, standard method)
+    // Uses selection on the first `length` values, which get reordered
+    static long calculateMedian(long[] values, int length) {
+        int middle = length / 2;
+        long upper = select(values, length, middle);
+        if (length % 2 != 0) {
+            return upper;
         }
 
-        List<Long> values = properties.stream()
-                .mapToLong(PropertyAssessment::getAssessedValue)
-                .boxed()
-                .sorted()
-                .toList();
+        // Everything left of the middle is <= upper, so the lower median is the largest of them
+        long lower = values[0];
+        for (int i = 1; i < middle; i++) {
+            if (values[i] > lower) lower = values[i];
+        }
+        return (lower + upper) / 2;
+    }
 
-        long min = values.getFirst();
-        long max = values.getLast();
-        double mean = values.stream().mapToLong(v -> v).average().orElse(0.0);
-        long median = calculateMedian(values);
+    // Introselect: quickselect with median-of-three pivots, falling back to sorting the
+    // remaining range if partitioning keeps going badly. Returns the k-th smallest value and
+    // leaves values[0..k) <= values[k] <= values[k+1..length)
+    static long select(long[] values, int length, int k) {
+        int left = 0;
+        int right = length - 1;
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(length));
 
-        stats.put("count", values.size());
-        stats.put("min", min);
-        stats.put("max", max);
-        stats.put("range", max - min);
-        stats.put("mean", mean);
-        stats.put("median", median);
+        while (right > left) {
+            if (budget-- == 0) {
+                Arrays.sort(values, left, right + 1);
+                return values[k];
+            }
 
-        return stats;
-    }
+            // Median-of-three pivot, also leaves sentinels at both ends of the range
+            int middle = (left + right) >>> 1;
+            if (values[middle] < values[left]) swap(values, middle, left);
+            if (values[right] < values[left]) swap(values, right, left);
+            if (values[right] < values[middle]) swap(values, right, middle);
+            long pivot = values[middle];
 
-    // Calculate neighbourhood statistics with mean and median
-    public static Map<String, Object> calculateNeighbourhoodStats(Collection<PropertyAssessment> properties) {
-        Map<String, Object> stats = new HashMap<>();
+            // Hoare partition
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
 
-        if (properties == null || properties.isEmpty()) {
-            stats.put("count", 0);
-            stats.put("mean", 0.0);
-            stats.put("median", 0L);
-            return stats;
+            // Now values[left..j] <= pivot <= values[i..right], and anything in between equals pivot
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
         }
-
-        return getStringObjectMap(stats, properties.stream(), (List<PropertyAssessment>) properties);
+        return values[k];
     }
 
-    // Helper method to calculate median (mean is an existing, standard method)
-    private static long calculateMedian(List<Long> sorted) {
-        int size = sorted.size();
-        if (size % 2 == 0) {
-            return (sorted.get(size / 2) + sorted.get(size / 2 - 1)) / 2;
-        } else {
-            return sorted.get(size / 2);
-        }
+    private static void swap(long[] values, int i, int j) {
+        long tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
     }
-}
\ No newline at end of file
+}
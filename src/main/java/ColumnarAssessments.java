@@ -0,0 +1,259 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented copy of a set of property assessments. Each attribute
+ * lives in its own primitive array and the repeated strings (street,
+ * neighbourhood, ward and assessment class) are dictionary-encoded, which is
+ * far more compact than one object graph per property and keeps scans over a
+ * single column cache-friendly. This is a separate store, not the backing of
+ * PropertyAssessments: the column accessors read it without allocating, while
+ * get(row) builds a full PropertyAssessment copy for code written against the
+ * getters.
+ */
+
+public class ColumnarAssessments {
+    public static final int CLASS_SLOTS = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StringDictionary streets = new StringDictionary();
+    private final StringDictionary neighbourhoods = new StringDictionary();
+    private final StringDictionary wards = new StringDictionary();
+    private final StringDictionary assessmentClasses = new StringDictionary();
+    private final StringDictionary garages = new StringDictionary();
+
+    private int size;
+    private String[] accountNumbers = new String[INITIAL_CAPACITY];
+    private String[] suites = new String[INITIAL_CAPACITY];
+    private String[] houseNumbers = new String[INITIAL_CAPACITY];
+    private int[] streetCodes = new int[INITIAL_CAPACITY];
+    private int[] neighbourhoodCodes = new int[INITIAL_CAPACITY];
+    private int[] wardCodes = new int[INITIAL_CAPACITY];
+    private int[] garageCodes = new int[INITIAL_CAPACITY];
+    private long[] assessedValues = new long[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private byte[] classCounts = new byte[INITIAL_CAPACITY];
+    private int[] classCodes = new int[INITIAL_CAPACITY * CLASS_SLOTS];
+    private double[] classPercentages = new double[INITIAL_CAPACITY * CLASS_SLOTS];
+
+    public static ColumnarAssessments from(PropertyAssessments assessments) {
+        ColumnarAssessments columns = new ColumnarAssessments();
+        for (PropertyAssessment assessment : assessments) {
+            columns.add(assessment);
+        }
+        return columns;
+    }
+
+    public void add(PropertyAssessment assessment) {
+        String[] classes = assessment.getAssessmentClasses();
+        double[] percentages = assessment.getAssessmentClassPercentages();
+        if (classes.length > CLASS_SLOTS) {
+            throw new IllegalArgumentException("At most " + CLASS_SLOTS + " assessment classes are supported, got "
+                    + classes.length + " for account " + assessment.getAccountNumber());
+        }
+        ensureCapacity(size + 1);
+
+        int row = size;
+        Address address = assessment.getAddress();
+        accountNumbers[row] = assessment.getAccountNumber();
+        suites[row] = address.getSuite();
+        houseNumbers[row] = address.getHouseNumber();
+        streetCodes[row] = streets.encode(address.getStreetName());
+        neighbourhoodCodes[row] = neighbourhoods.encode(assessment.getNeighbourhood());
+        wardCodes[row] = wards.encode(assessment.getWard());
+        garageCodes[row] = garages.encode(assessment.getGarage());
+        assessedValues[row] = assessment.getAssessedValue();
+        latitudes[row] = assessment.getLocation().latitude();
+        longitudes[row] = assessment.getLocation().longitude();
+
+        classCounts[row] = (byte) classes.length;
+        for (int i = 0; i < classes.length; i++) {
+            classCodes[row * CLASS_SLOTS + i] = assessmentClasses.encode(classes[i]);
+            classPercentages[row * CLASS_SLOTS + i] = i < percentages.length ? percentages[i] : 0.0;
+        }
+        size++;
+    }
+
+    public int size() { return size; }
+
+    // Build a standalone PropertyAssessment copy of a single row (allocates, so loops over
+    // many rows should use the column accessors instead)
+    public PropertyAssessment get(int row) {
+        checkRow(row);
+
+        int classCount = classCounts[row];
+        String[] classes = new String[classCount];
+        double[] percentages = new double[classCount];
+        for (int i = 0; i < classCount; i++) {
+            classes[i] = assessmentClasses.decode(classCodes[row * CLASS_SLOTS + i]);
+            percentages[i] = classPercentages[row * CLASS_SLOTS + i];
+        }
+
+        return new PropertyAssessment(
+                accountNumbers[row],
+                new Address(suites[row], houseNumbers[row], streets.decode(streetCodes[row])),
+                neighbourhoods.decode(neighbourhoodCodes[row]),
+                assessedValues[row],
+                new Location(latitudes[row], longitudes[row]),
+                classes,
+                percentages,
+                wards.decode(wardCodes[row]),
+                garages.decode(garageCodes[row])
+        );
+    }
+
+    // Read-only list view that builds a fresh copy of a row on every get
+    public List<PropertyAssessment> asList() {
+        return new RowList();
+    }
+
+    // Copy everything back into a regular (object-per-row) collection
+    public PropertyAssessments toPropertyAssessments() {
+        PropertyAssessments assessments = new PropertyAssessments();
+        for (int row = 0; row < size; row++) {
+            assessments.addAssessment(get(row));
+        }
+        return assessments;
+    }
+
+    // Single-column accessors
+    public String getAccountNumber(int row) { checkRow(row); return accountNumbers[row]; }
+    public long getAssessedValue(int row) { checkRow(row); return assessedValues[row]; }
+    public double getLatitude(int row) { checkRow(row); return latitudes[row]; }
+    public double getLongitude(int row) { checkRow(row); return longitudes[row]; }
+    public int getNeighbourhoodCode(int row) { checkRow(row); return neighbourhoodCodes[row]; }
+    public int getWardCode(int row) { checkRow(row); return wardCodes[row]; }
+    public String getNeighbourhood(int row) { return neighbourhoods.decode(getNeighbourhoodCode(row)); }
+    public String getWard(int row) { return wards.decode(getWardCode(row)); }
+    public String getGarage(int row) { checkRow(row); return garages.decode(garageCodes[row]); }
+
+    public int getAssessmentClassCount(int row) { checkRow(row); return classCounts[row]; }
+
+    public int getAssessmentClassCode(int row, int slot) {
+        checkSlot(row, slot);
+        return classCodes[row * CLASS_SLOTS + slot];
+    }
+
+    public double getAssessmentClassPercentage(int row, int slot) {
+        checkSlot(row, slot);
+        return classPercentages[row * CLASS_SLOTS + slot];
+    }
+
+    // Dictionaries for decoding the code columns
+    public StringDictionary getNeighbourhoodDictionary() { return neighbourhoods; }
+    public StringDictionary getWardDictionary() { return wards; }
+    public StringDictionary getAssessmentClassDictionary() { return assessmentClasses; }
+    public StringDictionary getStreetDictionary() { return streets; }
+
+    // Copy of the assessed value column, trimmed to size
+    public long[] getAssessedValues() {
+        return Arrays.copyOf(assessedValues, size);
+    }
+
+    public Map<String, Object> getCityStatistics() {
+        return CalculateStatistics.calculateValueStats(getAssessedValues());
+    }
+
+    // Serialize every column for a snapshot (see AssessmentSnapshot for the file layout)
+    void writeTo(AssessmentSnapshot.SnapshotOutput out) throws IOException {
+        out.putInt(size);
+        for (StringDictionary dictionary : dictionaries()) {
+            String[] values = dictionary.toArray();
+            out.putInt(values.length);
+            for (String value : values) out.putString(value);
+        }
+        for (String[] column : new String[][]{accountNumbers, suites, houseNumbers}) {
+            for (int row = 0; row < size; row++) out.putString(column[row]);
+        }
+        out.putInts(streetCodes, size);
+        out.putInts(neighbourhoodCodes, size);
+        out.putInts(wardCodes, size);
+        out.putInts(garageCodes, size);
+        out.putLongs(assessedValues, size);
+        out.putDoubles(latitudes, size);
+        out.putDoubles(longitudes, size);
+        out.putBytes(classCounts, size);
+        out.putInts(classCodes, size * CLASS_SLOTS);
+        out.putDoubles(classPercentages, size * CLASS_SLOTS);
+    }
+
+    // Rebuild the columns written by writeTo from a little-endian buffer
+    static ColumnarAssessments readFrom(ByteBuffer in) {
+        ColumnarAssessments columns = new ColumnarAssessments();
+        int size = in.getInt();
+        columns.ensureCapacity(size);
+        for (StringDictionary dictionary : columns.dictionaries()) {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) dictionary.encode(AssessmentSnapshot.getString(in));
+        }
+        for (String[] column : new String[][]{columns.accountNumbers, columns.suites, columns.houseNumbers}) {
+            for (int row = 0; row < size; row++) column[row] = AssessmentSnapshot.getString(in);
+        }
+        AssessmentSnapshot.getInts(in, columns.streetCodes, size);
+        AssessmentSnapshot.getInts(in, columns.neighbourhoodCodes, size);
+        AssessmentSnapshot.getInts(in, columns.wardCodes, size);
+        AssessmentSnapshot.getInts(in, columns.garageCodes, size);
+        AssessmentSnapshot.getLongs(in, columns.assessedValues, size);
+        AssessmentSnapshot.getDoubles(in, columns.latitudes, size);
+        AssessmentSnapshot.getDoubles(in, columns.longitudes, size);
+        in.get(columns.classCounts, 0, size);
+        AssessmentSnapshot.getInts(in, columns.classCodes, size * CLASS_SLOTS);
+        AssessmentSnapshot.getDoubles(in, columns.classPercentages, size * CLASS_SLOTS);
+        columns.size = size;
+        return columns;
+    }
+
+    private StringDictionary[] dictionaries() {
+        return new StringDictionary[]{streets, neighbourhoods, wards, assessmentClasses, garages};
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkSlot(int row, int slot) {
+        checkRow(row);
+        if (slot < 0 || slot >= classCounts[row]) {
+            throw new IndexOutOfBoundsException("Class slot " + slot + " out of bounds for row " + row);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= accountNumbers.length) return;
+
+        int newCapacity = Math.max(capacity, accountNumbers.length * 2);
+        accountNumbers = Arrays.copyOf(accountNumbers, newCapacity);
+        suites = Arrays.copyOf(suites, newCapacity);
+        houseNumbers = Arrays.copyOf(houseNumbers, newCapacity);
+        streetCodes = Arrays.copyOf(streetCodes, newCapacity);
+        neighbourhoodCodes = Arrays.copyOf(neighbourhoodCodes, newCapacity);
+        wardCodes = Arrays.copyOf(wardCodes, newCapacity);
+        garageCodes = Arrays.copyOf(garageCodes, newCapacity);
+        assessedValues = Arrays.copyOf(assessedValues, newCapacity);
+        latitudes = Arrays.copyOf(latitudes, newCapacity);
+        longitudes = Arrays.copyOf(longitudes, newCapacity);
+        classCounts = Arrays.copyOf(classCounts, newCapacity);
+        classCodes = Arrays.copyOf(classCodes, newCapacity * CLASS_SLOTS);
+        classPercentages = Arrays.copyOf(classPercentages, newCapacity * CLASS_SLOTS);
+    }
+
+    private class RowList extends AbstractList<PropertyAssessment> implements RandomAccess {
+        @Override
+        public PropertyAssessment get(int index) {
+            return ColumnarAssessments.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column positions of a CSV file, bound from its header row so readers can
+ * look columns up by name instead of hard-coding indexes. Matching ignores
+ * case and surrounding whitespace. Every column resolved through require()
+ * is remembered, which gives the column limit a reader can hand to
+ * CsvTokenizer.setColumnLimit so nothing past the last needed column is
+ * tokenized, and the unused columns before it for
+ * CsvTokenizer.setSkippedColumns.
+ */
+
+public class CsvSchema {
+    public static final int NOT_FOUND = -1;
+
+    private final String[] columns;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final boolean[] required;
+    private int lastRequired = NOT_FOUND;
+
+    public CsvSchema(String[] header) {
+        this.columns = header.clone();
+        this.required = new boolean[header.length];
+        for (int i = 0; i < header.length; i++) {
+            // A repeated name resolves to its first column
+            positions.putIfAbsent(normalize(header[i]), i);
+        }
+    }
+
+    public int size() { return columns.length; }
+
+    // Column name as written in the header
+    public String getColumn(int position) { return columns[position]; }
+
+    // Position of a column, or NOT_FOUND if the header doesn't have it
+    public int indexOf(String column) {
+        if (column == null) return NOT_FOUND;
+        return positions.getOrDefault(normalize(column), NOT_FOUND);
+    }
+
+    public boolean contains(String column) {
+        return indexOf(column) != NOT_FOUND;
+    }
+
+    // Position of a column the reader can't do without, recorded towards the column limit
+    public int require(String column) {
+        int position = indexOf(column);
+        if (position == NOT_FOUND) {
+            throw new IllegalArgumentException("CSV header has no \"" + column + "\" column, it has " + List.of(columns));
+        }
+        required[position] = true;
+        lastRequired = Math.max(lastRequired, position);
+        return position;
+    }
+
+    // Positions of several required columns, in the order given. Every missing column is reported at once.
+    public int[] require(String... requested) {
+        List<String> missing = new ArrayList<>();
+        for (String column : requested) {
+            if (!contains(column)) missing.add(column);
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns " + missing + ", it has " + List.of(columns));
+        }
+
+        int[] result = new int[requested.length];
+        for (int i = 0; i < requested.length; i++) {
+            result[i] = require(requested[i]);
+        }
+        return result;
+    }
+
+    // Number of leading fields that cover every required column (the whole row if none were required)
+    public int getColumnLimit() {
+        return lastRequired == NOT_FOUND ? Math.max(columns.length, 1) : lastRequired + 1;
+    }
+
+    // Columns before the limit that no reader required (true entries), or null if there are none
+    public boolean[] getSkippedColumns() {
+        if (lastRequired == NOT_FOUND) return null;
+
+        boolean[] skipped = new boolean[lastRequired];
+        boolean any = false;
+        for (int i = 0; i < skipped.length; i++) {
+            skipped[i] = !required[i];
+            any |= skipped[i];
+        }
+        return any ? skipped : null;
+    }
+
+    private static String normalize(String column) {
+        return column == null ? "" : column.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,325 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Low-level CSV tokenizer that scans rows into a single reusable char
+ * buffer and records each field as a pair of offsets into it, so no
+ * Strings are created unless a caller asks for a column. Follows RFC 4180
+ * quoting (embedded commas, line breaks and "" escapes) and, like the
+ * original parser, keeps commas inside parentheses (the POINT column).
+ */
+
+public class CsvTokenizer implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_FIELD_CAPACITY = 32;
+
+    private final Reader reader;
+    private char[] buffer;
+    private int position;   // next unread char
+    private int limit;      // end of the valid chars in the buffer
+    private int rowStart;   // where the current row begins in the buffer
+    private int write;      // where the next (unescaped) field char is written
+
+    private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private int fieldCount;
+    private int columnLimit = Integer.MAX_VALUE; // Fields from this index on are skipped, not tokenized
+    private boolean[] skippedColumns; // Fields before the limit that are passed over and read as empty, or null
+
+    // State of the field currently being scanned
+    private int fieldStart;
+    private int quotedEnd;
+    private boolean quoted;
+
+    public CsvTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvTokenizer(Reader reader, int bufferSize) {
+        this.reader = Objects.requireNonNull(reader);
+        this.buffer = new char[Math.max(bufferSize, 16)];
+    }
+
+    // Advance to the next row, returns false once the input is exhausted
+    public boolean nextRow() throws IOException {
+        fieldCount = 0;
+
+        // Skip the line break left over from the previous row, along with any blank lines
+        while (true) {
+            rowStart = write = position;
+            if (position == limit && !fill()) {
+                return false;
+            }
+            char c = buffer[position];
+            if (c != '\n' && c != '\r') break;
+            position++;
+        }
+
+        startField();
+        if (isSkipped(fieldCount)) skipField();
+        boolean inQuotes = false;
+        int parenDepth = 0;
+
+        while (true) {
+            if (position == limit && !fill()) {
+                // End of input also ends the last row
+                endField();
+                return true;
+            }
+            char c = buffer[position++];
+
+            if (inQuotes) {
+                if (c != '"') {
+                    buffer[write++] = c;
+                } else if ((position < limit || fill()) && buffer[position] == '"') {
+                    // Escaped quote ("") inside a quoted field
+                    buffer[write++] = '"';
+                    position++;
+                } else {
+                    inQuotes = false;
+                    quotedEnd = write;
+                }
+            } else if (c == '"' && !quoted && isBlank(fieldStart, write)) {
+                // Opening quote, drop any whitespace that came before it
+                inQuotes = true;
+                quoted = true;
+                write = fieldStart;
+            } else if (c == ',' && parenDepth == 0) {
+                endField();
+                if (fieldCount == columnLimit) {
+                    skipRestOfRow();
+                    return true;
+                }
+                startField();
+                if (isSkipped(fieldCount)) skipField();
+            } else if (c == '\n' || c == '\r') {
+                endField();
+                return true;
+            } else {
+                if (c == '(') {
+                    parenDepth++;
+                } else if (c == ')' && parenDepth > 0) {
+                    parenDepth--;
+                }
+                buffer[write++] = c;
+            }
+        }
+    }
+
+    public int getFieldCount() { return fieldCount; }
+
+    // Only tokenize the first `limit` fields of each row and skip straight past the rest, for
+    // readers that never look at the trailing columns (see CsvSchema)
+    public void setColumnLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Column limit must be at least 1: " + limit);
+        }
+        this.columnLimit = limit;
+    }
+
+    // Pass over the fields at these positions (true entries) without copying them, they read as empty.
+    // For unused columns in the middle of the row, which the column limit can't cut off (see
+    // CsvSchema.getSkippedColumns). Null skips nothing.
+    public void setSkippedColumns(boolean[] skipped) {
+        this.skippedColumns = skipped == null ? null : skipped.clone();
+    }
+
+    // Materialize a single column of the current row
+    public String getField(int index) {
+        Objects.checkIndex(index, fieldCount);
+        return new String(buffer, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    // Parse a column as a number in place, without creating a String (see NumberParser)
+    public long getLong(int index, long fallback) {
+        Objects.checkIndex(index, fieldCount);
+        return NumberParser.parseLong(buffer, fieldStarts[index], fieldEnds[index], fallback);
+    }
+
+    public double getDouble(int index, double fallback) {
+        Objects.checkIndex(index, fieldCount);
+        return NumberParser.parseDouble(buffer, fieldStarts[index], fieldEnds[index], fallback);
+    }
+
+    public boolean isEmpty(int index) {
+        Objects.checkIndex(index, fieldCount);
+        return fieldStarts[index] == fieldEnds[index];
+    }
+
+    // Materialize every column of the current row
+    public String[] toArray() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = getField(i);
+        }
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Move past the end of the current row without recording anything. Quotes still have to be
+    // followed, since a quoted field can contain a line break.
+    private void skipRestOfRow() throws IOException {
+        boolean inQuotes = false;
+        boolean blank = true; // Nothing but whitespace so far in the field being skipped
+        int parenDepth = 0;
+
+        while (position < limit || fill()) {
+            // Every character that matters here (line breaks, whitespace, quotes, parentheses and
+            // commas) sorts at or below ',', so ordinary text is passed over one compare per char
+            char[] chars = buffer;
+            int end = limit;
+            int scan = position;
+            while (scan < end && chars[scan] > ',') scan++;
+            if (scan > position) blank = false;
+            position = scan;
+            if (scan == end) continue;
+
+            char c = chars[position++];
+            if (inQuotes) {
+                if (c == '"') {
+                    if ((position < limit || fill()) && buffer[position] == '"') {
+                        position++;
+                    } else {
+                        inQuotes = false;
+                    }
+                }
+            } else if (c == '"' && blank) {
+                inQuotes = true;
+                blank = false;
+            } else if (c == ',' && parenDepth == 0) {
+                blank = true;
+            } else if (c == '\n' || c == '\r') {
+                return;
+            } else if (c == '(') {
+                parenDepth++;
+                blank = false;
+            } else if (c == ')') {
+                if (parenDepth > 0) parenDepth--;
+                blank = false;
+            } else if (c > ' ') {
+                blank = false;
+            }
+        }
+    }
+
+    private boolean isSkipped(int column) {
+        return skippedColumns != null && column < skippedColumns.length && skippedColumns[column];
+    }
+
+    // Move past the content of the current field, stopping on the comma or line break that ends it
+    // so nextRow closes the field as usual. Follows quotes and parentheses like nextRow does.
+    private void skipField() throws IOException {
+        boolean inQuotes = false;
+        boolean blank = true;
+        int parenDepth = 0;
+
+        while (position < limit || fill()) {
+            // Same fast path as skipRestOfRow, only characters at or below ',' matter
+            char[] chars = buffer;
+            int end = limit;
+            int scan = position;
+            while (scan < end && chars[scan] > ',') scan++;
+            if (scan > position) blank = false;
+            position = scan;
+            if (scan == end) continue;
+
+            char c = chars[position];
+            if (inQuotes) {
+                position++;
+                if (c == '"') {
+                    if ((position < limit || fill()) && buffer[position] == '"') {
+                        position++;
+                    } else {
+                        inQuotes = false;
+                    }
+                }
+            } else if ((c == ',' && parenDepth == 0) || c == '\n' || c == '\r') {
+                return;
+            } else {
+                position++;
+                if (c == '"' && blank) {
+                    inQuotes = true;
+                    blank = false;
+                } else if (c == '(') {
+                    parenDepth++;
+                    blank = false;
+                } else if (c == ')') {
+                    if (parenDepth > 0) parenDepth--;
+                    blank = false;
+                } else if (c > ' ') {
+                    blank = false;
+                }
+            }
+        }
+    }
+
+    private void startField() {
+        fieldStart = write;
+        quotedEnd = write;
+        quoted = false;
+    }
+
+    private void endField() {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+
+        int start = fieldStart;
+        int end = write;
+        if (quoted) {
+            // Keep the quoted content as-is, only trim whatever trails the closing quote
+            while (end > quotedEnd && buffer[end - 1] <= ' ') end--;
+        } else {
+            while (start < end && buffer[start] <= ' ') start++;
+            while (end > start && buffer[end - 1] <= ' ') end--;
+        }
+
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] > ' ') return false;
+        }
+        return true;
+    }
+
+    // Slide the current row to the front of the buffer (growing it if the row fills it) and read more input
+    private boolean fill() throws IOException {
+        if (rowStart > 0) {
+            int shift = rowStart;
+            System.arraycopy(buffer, rowStart, buffer, 0, write - rowStart);
+            for (int i = 0; i < fieldCount; i++) {
+                fieldStarts[i] -= shift;
+                fieldEnds[i] -= shift;
+            }
+            fieldStart -= shift;
+            quotedEnd -= shift;
+            write -= shift;
+            rowStart = 0;
+        }
+
+        // Everything up to the read position has been consumed, so new input goes right after the row
+        position = limit = write;
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
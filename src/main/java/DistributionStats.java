@@ -0,0 +1,18 @@
+/**
+ * Shape of a set of assessed values beyond AssessmentStats: standard
+ * deviation and the usual percentiles, as produced by
+ * CalculateStatistics.computeDistribution. Percentiles interpolate
+ * linearly between the two nearest values, so the median here is the
+ * exact midpoint where AssessmentStats rounds it down to whole dollars.
+ */
+
+public record DistributionStats(int count, long min, long max, double mean, double standardDeviation,
+                                double p5, double p25, double median, double p75, double p95, double p99) {
+    public static final DistributionStats EMPTY = new DistributionStats(0, 0L, 0L, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+
+    public boolean isEmpty() { return count == 0; }
+
+    // Interquartile range, the spread of the middle half of the values
+    public double iqr() { return p75 - p25; }
+}
@@ -0,0 +1,118 @@
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Group-by aggregation over property assessments. Count, sum, min and max are
+ * kept per key in primitive accumulators for any number of dimensions, all
+ * filled in a single scan of the data.
+ */
+
+public class GroupStatistics {
+    public enum Dimension { NEIGHBOURHOOD, WARD, ASSESSMENT_CLASS, GARAGE }
+
+    private final Map<Dimension, Map<String, Accumulator>> groups;
+
+    private GroupStatistics(Dimension[] dimensions) {
+        this.groups = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : dimensions) {
+            groups.put(dimension, new HashMap<>());
+        }
+    }
+
+    // Aggregate the assessed values along every requested dimension in one pass.
+    // Null or empty keys are skipped. A property counts towards an assessment class only
+    // when its percentage is above zero, but every class seen still gets a (possibly empty) group.
+    public static GroupStatistics aggregate(Iterable<PropertyAssessment> properties, Dimension... dimensions) {
+        GroupStatistics statistics = new GroupStatistics(dimensions);
+        for (PropertyAssessment property : properties) {
+            statistics.add(property);
+        }
+        return statistics;
+    }
+
+    public void add(PropertyAssessment property) {
+        long value = property.getAssessedValue();
+        for (Map.Entry<Dimension, Map<String, Accumulator>> entry : groups.entrySet()) {
+            Map<String, Accumulator> byKey = entry.getValue();
+            switch (entry.getKey()) {
+                case NEIGHBOURHOOD -> addValue(byKey, property.getNeighbourhood(), value);
+                case WARD -> addValue(byKey, property.getWard(), value);
+                case GARAGE -> addValue(byKey, property.getGarage(), value);
+                case ASSESSMENT_CLASS -> addClasses(byKey, property, value);
+            }
+        }
+    }
+
+    // Fold another aggregation (e.g. of a different slice of the data) into this one
+    public void merge(GroupStatistics other) {
+        for (Map.Entry<Dimension, Map<String, Accumulator>> entry : other.groups.entrySet()) {
+            Map<String, Accumulator> byKey = groups.computeIfAbsent(entry.getKey(), _ -> new HashMap<>());
+            for (Map.Entry<String, Accumulator> group : entry.getValue().entrySet()) {
+                byKey.computeIfAbsent(group.getKey(), _ -> new Accumulator()).merge(group.getValue());
+            }
+        }
+    }
+
+    // Groups for one dimension, keyed by value (empty if the dimension wasn't aggregated)
+    public Map<String, Accumulator> get(Dimension dimension) {
+        Map<String, Accumulator> byKey = groups.get(dimension);
+        return byKey == null ? Map.of() : byKey;
+    }
+
+    private static void addValue(Map<String, Accumulator> byKey, String key, long value) {
+        if (key == null || key.isEmpty()) return;
+        byKey.computeIfAbsent(key, _ -> new Accumulator()).add(value);
+    }
+
+    private static void addClasses(Map<String, Accumulator> byKey, PropertyAssessment property, long value) {
+        String[] classes = property.getAssessmentClasses();
+        for (int i = 0; i < classes.length; i++) {
+            String className = classes[i];
+            if (className == null || className.isEmpty() || isRepeated(classes, i)) continue;
+
+            Accumulator accumulator = byKey.computeIfAbsent(className, _ -> new Accumulator());
+            if (property.getAssessmentClassPercentage(className) > 0) {
+                accumulator.add(value);
+            }
+        }
+    }
+
+    // A class listed twice on one property should only be counted once
+    private static boolean isRepeated(String[] classes, int index) {
+        for (int i = 0; i < index; i++) {
+            if (classes[index].equals(classes[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Running count, sum, min and max for one group.
+     */
+    public static class Accumulator {
+        private long count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        public void add(long value) {
+            count++;
+            sum += value;
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+
+        public void merge(Accumulator other) {
+            count += other.count;
+            sum += other.sum;
+            if (other.min < min) min = other.min;
+            if (other.max > max) max = other.max;
+        }
+
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+        public long getMin() { return count == 0 ? 0 : min; }
+        public long getMax() { return count == 0 ? 0 : max; }
+        public double getMean() { return count == 0 ? 0.0 : (double) sum / count; }
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts of assessed values per bucket, with buckets of equal width
+ * (linear) or growing by a constant factor (logarithmic, which suits the
+ * long tail of property values). Values outside the buckets are counted
+ * as underflow or overflow rather than dropped. Histograms with the same
+ * buckets merge by adding counts, so slices of the data can be counted
+ * separately (or on separate threads) and combined exactly.
+ */
+
+public class Histogram {
+    private final long[] bounds; // Bucket i covers [bounds[i], bounds[i + 1])
+    private final long width; // Bucket width for linear buckets, 0 for logarithmic ones
+    private final long[] counts;
+    private long underflow;
+    private long overflow;
+
+    private Histogram(long[] bounds, long width) {
+        this.bounds = bounds;
+        this.width = width;
+        this.counts = new long[bounds.length - 1];
+    }
+
+    // `buckets` buckets of equal width covering [min, max]
+    public static Histogram linear(long min, long max, int buckets) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("buckets must be at least 1: " + buckets);
+        }
+        if (max < min) {
+            throw new IllegalArgumentException("max must not be below min: " + min + " > " + max);
+        }
+
+        // Round the width up so the last bucket still reaches max. The exclusive upper bound has to fit
+        // in a long too, so ranges reaching the ends of the long range are rejected.
+        try {
+            long width = Math.ceilDiv(Math.addExact(Math.subtractExact(max, min), 1), buckets);
+            long[] bounds = new long[buckets + 1];
+            for (int i = 0; i <= buckets; i++) {
+                bounds[i] = Math.addExact(min, Math.multiplyExact(width, i));
+            }
+            return new Histogram(bounds, width);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Range is too wide for " + buckets + " linear buckets: "
+                    + min + " to " + max, e);
+        }
+    }
+
+    // Buckets growing tenfold every `bucketsPerDecade` buckets, from min (which must be positive)
+    // until max is covered. Small bounds are rounded to whole dollars and kept at least 1 apart.
+    public static Histogram logarithmic(long min, long max, int bucketsPerDecade) {
+        if (bucketsPerDecade < 1) {
+            throw new IllegalArgumentException("bucketsPerDecade must be at least 1: " + bucketsPerDecade);
+        }
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Logarithmic buckets need 1 <= min <= max: " + min + ", " + max);
+        }
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(min);
+        for (int i = 1; bounds.getLast() <= max; i++) {
+            double bound = min * Math.pow(10, (double) i / bucketsPerDecade);
+            long rounded = bound >= Long.MAX_VALUE ? Long.MAX_VALUE : Math.round(bound);
+            bounds.add(Math.max(bounds.getLast() + 1, rounded));
+            if (bounds.getLast() == Long.MAX_VALUE) break;
+        }
+
+        long[] array = new long[bounds.size()];
+        for (int i = 0; i < array.length; i++) array[i] = bounds.get(i);
+        return new Histogram(array, 0);
+    }
+
+    // A histogram with the same buckets and no counts, e.g. one per slice of the data
+    public Histogram emptyCopy() {
+        return new Histogram(bounds, width);
+    }
+
+    public void add(long value) {
+        if (value < bounds[0]) {
+            underflow++;
+        } else if (value >= bounds[bounds.length - 1]) {
+            overflow++;
+        } else {
+            counts[bucketOf(value)]++;
+        }
+    }
+
+    public void add(long[] values, int length) {
+        for (int i = 0; i < length; i++) {
+            add(values[i]);
+        }
+    }
+
+    // Add another histogram's counts to this one, which only makes sense when the buckets agree
+    public void merge(Histogram other) {
+        if (!Arrays.equals(bounds, other.bounds)) {
+            throw new IllegalArgumentException("Can't merge histograms with different buckets");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        underflow += other.underflow;
+        overflow += other.overflow;
+    }
+
+    public int getBucketCount() { return counts.length; }
+    public long getLowerBound(int bucket) { return bounds[bucket]; }
+    public long getUpperBound(int bucket) { return bounds[bucket + 1]; } // Exclusive
+    public long getCount(int bucket) { return counts[bucket]; }
+    public long getUnderflow() { return underflow; }
+    public long getOverflow() { return overflow; }
+
+    // Every value added, including those outside the buckets
+    public long getTotal() {
+        long total = underflow + overflow;
+        for (long count : counts) total += count;
+        return total;
+    }
+
+    public long getMaxCount() {
+        long max = 0;
+        for (long count : counts) max = Math.max(max, count);
+        return max;
+    }
+
+    // Only called with bounds[0] <= value < the last bound
+    private int bucketOf(long value) {
+        if (width > 0) {
+            return (int) ((value - bounds[0]) / width);
+        }
+        int index = Arrays.binarySearch(bounds, value);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Histogram that = (Histogram) o;
+        return underflow == that.underflow && overflow == that.overflow
+                && Arrays.equals(bounds, that.bounds) && Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bounds) + Arrays.hashCode(counts);
+    }
+}
@@ -15,27 +15,23 @@ public class HoodAssessment {
     private final long maxValue;
     private final long valueRange;
 
-    public HoodAssessment(String name, Map<String, Object> stats) {
+    public HoodAssessment(String name, AssessmentStats stats) {
         this.name = name;
-        this.propertyCount = (Integer) stats.getOrDefault("count", 0);
-        this.meanValue = (Double) stats.getOrDefault("mean", 0.0);
-        this.medianValue = (Long) stats.getOrDefault("median", 0L);
-        this.minValue = (Long) stats.getOrDefault("min", 0L);
-        this.maxValue = (Long) stats.getOrDefault("max", 0L);
-        this.valueRange = (Long) stats.getOrDefault("range", 0L);
+        this.propertyCount = stats.count();
+        this.meanValue = stats.mean();
+        this.medianValue = stats.median();
+        this.minValue = stats.min();
+        this.maxValue = stats.max();
+        this.valueRange = stats.range();
+    }
+
+    public HoodAssessment(String name, Map<String, Object> stats) {
+        this(name, AssessmentStats.fromMap(stats));
     }
 
     // Another constructor that takes a Neighbourhood and calculates stats directly
     public HoodAssessment(Neighbourhood neighbourhood) {
-        this.name = neighbourhood.getName();
-        Map<String, Object> stats = CalculateStatistics.calculateAllStats(neighbourhood.getProperties());
-
-        this.propertyCount = (Integer) stats.getOrDefault("count", 0);
-        this.meanValue = (Double) stats.getOrDefault("mean", 0.0);
-        this.medianValue = (Long) stats.getOrDefault("median", 0L);
-        this.minValue = (Long) stats.getOrDefault("min", 0L);
-        this.maxValue = (Long) stats.getOrDefault("max", 0L);
-        this.valueRange = (Long) stats.getOrDefault("range", 0L);
+        this(neighbourhood.getName(), neighbourhood.getAssessmentStats());
     }
 
     // Getters
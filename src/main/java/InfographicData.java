@@ -13,6 +13,8 @@ import java.util.stream.Collectors;
 
 public class InfographicData {
     private final PropertyAssessments assessments;
+    private GroupStatistics groups; // Filled on first use, one pass serves every section
+    private long groupsVersion; // Collection version the groups were computed from
 
     public InfographicData(PropertyAssessments assessments) {
         this.assessments = assessments;
@@ -21,76 +23,30 @@ public class InfographicData {
     // Get the distribution of property types across the city
     public Map<String, Integer> getPropertyTypeDistribution() {
         Map<String, Integer> distribution = new HashMap<>();
-
-        // Track all unique assessment classes
-        Set<String> uniqueClasses = new HashSet<>();
-
-        // Gather all assessment classes
-        for (PropertyAssessment property : assessments.getAssessments()) {
-            for (String className : property.getAssessmentClasses()) {
-                if (className != null && !className.isEmpty()) {
-                    uniqueClasses.add(className);
-                }
-            }
-        }
-
-        // Count properties for each assessment class
-        for (String className : uniqueClasses) {
-            int count = 0;
-            for (PropertyAssessment property : assessments.getAssessments()) {
-                if (property.getAssessmentClassPercentage(className) > 0) {
-                    count++;
-                }
-            }
-            distribution.put(className, count);
+        for (Map.Entry<String, GroupStatistics.Accumulator> entry : getGroups().get(GroupStatistics.Dimension.ASSESSMENT_CLASS).entrySet()) {
+            distribution.put(entry.getKey(), (int) entry.getValue().getCount());
         }
-
         return distribution;
     }
 
     // Get average property values by property type
     public Map<String, Double> getAverageValueByPropertyType() {
         Map<String, Double> averageValues = new HashMap<>();
-        Map<String, List<Long>> valuesByType = new HashMap<>();
-
-        // Group property values by assessment class
-        for (PropertyAssessment property : assessments.getAssessments()) {
-            for (String className : property.getAssessmentClasses()) {
-                if (className != null && !className.isEmpty() &&
-                        property.getAssessmentClassPercentage(className) > 0) {
-
-                    valuesByType.computeIfAbsent(className, _ -> new ArrayList<>())
-                            .add(property.getAssessedValue());
-                }
+        for (Map.Entry<String, GroupStatistics.Accumulator> entry : getGroups().get(GroupStatistics.Dimension.ASSESSMENT_CLASS).entrySet()) {
+            // Classes that never hold a share of any property have no average
+            if (entry.getValue().getCount() > 0) {
+                averageValues.put(entry.getKey(), entry.getValue().getMean());
             }
         }
-
-        // Calculate average for each type
-        for (Map.Entry<String, List<Long>> entry : valuesByType.entrySet()) {
-            double average = entry.getValue().stream()
-                    .mapToLong(Long::longValue)
-                    .average()
-                    .orElse(0.0);
-            averageValues.put(entry.getKey(), average);
-        }
-
         return averageValues;
     }
 
     // Get ward statistics - average property values by ward
     public Map<String, Double> getWardAverageValues() {
-        Map<String, List<PropertyAssessment>> propertiesByWard = groupPropertiesByWard();
-
-        // Calculate average value for each ward
         Map<String, Double> wardAverages = new HashMap<>();
-        for (Map.Entry<String, List<PropertyAssessment>> entry : propertiesByWard.entrySet()) {
-            double average = entry.getValue().stream()
-                    .mapToLong(PropertyAssessment::getAssessedValue)
-                    .average()
-                    .orElse(0.0);
-            wardAverages.put(entry.getKey(), average);
+        for (Map.Entry<String, GroupStatistics.Accumulator> entry : getGroups().get(GroupStatistics.Dimension.WARD).entrySet()) {
+            wardAverages.put(entry.getKey(), entry.getValue().getMean());
         }
-
         return wardAverages;
     }
 
@@ -121,23 +77,14 @@ public class InfographicData {
                 ));
     }
 
-    // Helper method to group properties by ward
-    private Map<String, List<PropertyAssessment>> groupPropertiesByWard() {
-        Map<String, List<PropertyAssessment>> propertiesByWard = new HashMap<>();
-
-        for (PropertyAssessment property : assessments.getAssessments()) {
-            String ward = getPropertyWard(property);
-            if (ward != null && !ward.isEmpty()) {
-                propertiesByWard.computeIfAbsent(ward, _ -> new ArrayList<>())
-                        .add(property);
-            }
+    // Aggregate classes and wards together the first time any section asks for them,
+    // and again after the collection changes
+    private GroupStatistics getGroups() {
+        if (groups == null || groupsVersion != assessments.getVersion()) {
+            groupsVersion = assessments.getVersion();
+            groups = GroupStatistics.aggregate(assessments,
+                    GroupStatistics.Dimension.ASSESSMENT_CLASS, GroupStatistics.Dimension.WARD);
         }
-
-        return propertiesByWard;
-    }
-
-    // Helper method to extract ward from a property
-    private String getPropertyWard(PropertyAssessment property) {
-        return property.getWard();
+        return groups;
     }
 }
\ No newline at end of file
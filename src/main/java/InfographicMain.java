@@ -1,5 +1,6 @@
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Scanner;
 
@@ -13,8 +14,6 @@ public class InfographicMain {
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
-        PropertyAssessments assessments = new PropertyAssessments();
-
         // Get filename and load data
         System.out.print("Enter CSV filename: ");
         String filename = scanner.nextLine();
@@ -22,10 +21,18 @@ public class InfographicMain {
         try {
             // Load and process data
             Path filePath = FileUtils.buildFilePath(filename);
-            String[][] rawData = ParseCSV.readData(filePath);
+            PropertyAssessments assessments = PropertyAssessments.load(filePath,
+                    Runtime.getRuntime().availableProcessors());
 
-            for (String[] row : rawData) {
-                assessments.addAssessment(new PropertyAssessment(row));
+            // Save a binary snapshot for faster reloads only when run with --snapshot
+            if (Arrays.asList(args).contains("--snapshot")) {
+                try {
+                    if (AssessmentSnapshot.refresh(assessments, filePath)) {
+                        System.out.println("Saved snapshot " + AssessmentSnapshot.snapshotPathFor(filePath));
+                    }
+                } catch (IOException e) {
+                    System.out.println("Could not save snapshot: " + e.getMessage());
+                }
             }
 
             InfographicData infographicData = new InfographicData(assessments);
@@ -37,7 +44,7 @@ public class InfographicMain {
                 System.out.printf("%s: %d properties (%.1f%%)\n",
                         entry.getKey(),
                         entry.getValue(),
-                        (double) entry.getValue() / assessments.getAssessments().size() * 100);
+                        (double) entry.getValue() / assessments.size() * 100);
             }
 
             // 2. Average Values by Property Type
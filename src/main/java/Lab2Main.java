@@ -1,6 +1,6 @@
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /**
@@ -13,8 +13,6 @@ public class Lab2Main {
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
-        PropertyAssessments assessments = new PropertyAssessments();
-
         // Get filename and load data
         System.out.print("Enter CSV filename: ");
         String filename = scanner.nextLine();
@@ -22,15 +20,22 @@ public class Lab2Main {
         try {
             // Load and process data
             Path filePath = FileUtils.buildFilePath(filename);
-            String[][] rawData = ParseCSV.readData(filePath);
+            PropertyAssessments assessments = PropertyAssessments.load(filePath,
+                    Runtime.getRuntime().availableProcessors());
 
-            for (String[] row : rawData) {
-                assessments.addAssessment(new PropertyAssessment(row));
+            // Save a binary snapshot for faster reloads only when run with --snapshot
+            if (Arrays.asList(args).contains("--snapshot")) {
+                try {
+                    if (AssessmentSnapshot.refresh(assessments, filePath)) {
+                        System.out.println("Saved snapshot " + AssessmentSnapshot.snapshotPathFor(filePath));
+                    }
+                } catch (IOException e) {
+                    System.out.println("Could not save snapshot: " + e.getMessage());
+                }
             }
 
             // 1. Print statistics for all properties in the CSV file
-            Map<String, Object> cityStats = CalculateStatistics.calculateAllStats(assessments.getAssessments());
-            PrintReport.printAllStats("\nAssessment of Edmonton Properties", cityStats);
+            PrintReport.printAllStats("\nAssessment of Edmonton Properties", assessments.getCityStats());
 
             // 2. Get a specific property by account number
             System.out.print("\nPlease enter an account number: ");
@@ -38,7 +43,8 @@ public class Lab2Main {
             PropertyAssessment property = assessments.findByAccountNumber(accountNumber);
 
             if (property != null) {
-                PrintReport.printPropertyAssessment(property);
+                PrintReport.printPropertyAssessment(property, assessments.getNeighbourhoodPercentileRank(property),
+                        assessments.getCityPercentileRank(property));
             } else {
                 System.out.println("Property not found with account number: " + accountNumber);
             }
@@ -53,6 +59,7 @@ public class Lab2Main {
                 hoodAssessment.printSummary();
             } else {
                 System.out.println("Neighbourhood not found: " + hoodName);
+                PrintReport.printNeighbourhoodSuggestions(assessments.completeNeighbourhoodName(hoodName, 5));
             }
 
         } catch (IOException e) {
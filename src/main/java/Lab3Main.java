@@ -1,6 +1,6 @@
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /**
@@ -12,8 +12,6 @@ public class Lab3Main {
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
-        PropertyAssessments assessments = new PropertyAssessments();
-
         // Get filename and load data
         System.out.print("Enter CSV filename: ");
         String filename = scanner.nextLine();
@@ -21,10 +19,18 @@ public class Lab3Main {
         try {
             // Load and process data
             Path filePath = FileUtils.buildFilePath(filename);
-            String[][] rawData = ParseCSV.readData(filePath);
+            PropertyAssessments assessments = PropertyAssessments.load(filePath,
+                    Runtime.getRuntime().availableProcessors());
 
-            for (String[] row : rawData) {
-                assessments.addAssessment(new PropertyAssessment(row));
+            // Save a binary snapshot for faster reloads only when run with --snapshot
+            if (Arrays.asList(args).contains("--snapshot")) {
+                try {
+                    if (AssessmentSnapshot.refresh(assessments, filePath)) {
+                        System.out.println("Saved snapshot " + AssessmentSnapshot.snapshotPathFor(filePath));
+                    }
+                } catch (IOException e) {
+                    System.out.println("Could not save snapshot: " + e.getMessage());
+                }
             }
 
             // Neighbourhood analysis
@@ -34,18 +40,17 @@ public class Lab3Main {
             Neighbourhood hood = assessments.getNeighbourhood(hoodName);
             if (hood != null) {
                 // Get simple statistics for neighbourhood
-                Map<String, Object> hoodStats = hood.getStatistics();
-                PrintReport.printHoodStats(hoodName, hoodStats);
+                PrintReport.printHoodStats(hoodName, hood.getAssessmentStats());
             } else {
                 System.out.println("Sorry, can't find data for " + hoodName);
+                PrintReport.printNeighbourhoodSuggestions(assessments.completeNeighbourhoodName(hoodName, 5));
             }
 
             // Assessment class analysis
             System.out.print("\nPlease enter an assessment class: ");
             String className = scanner.nextLine();
 
-            Map<String, Object> classStats = assessments.getAssessmentClassStatistics(className);
-            PrintReport.printClassStats(className, classStats, false);
+            PrintReport.printClassStats(className, assessments.getAssessmentClassStats(className), false);
 
         } catch (IOException e) {
             System.out.println("Error reading file: " + e.getMessage());
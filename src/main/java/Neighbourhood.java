@@ -1,4 +1,6 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -6,27 +8,153 @@ import java.util.Objects;
 /**
  * Represents a neighborhood containing property assessments, with methods
  * to calculate statistics and manage properties within the neighborhood.
+ * Sum, min and max are kept up to date as properties are added, and the
+ * full statistics are cached until the next change, so repeated queries
+ * don't rescan the properties. Each property's position is tracked, so
+ * removing one is a swap with the last rather than a scan (order isn't kept).
  */
 
 public class Neighbourhood {
     private final String name;
     private final List<PropertyAssessment> properties;
+    private final Map<PropertyAssessment, Integer> positions; // By instance, one position per instance
+    private int duplicates; // Instances added again while already present, see removeProperty
+
+    // Running totals over the assessed values
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private boolean extremesStale; // A removal took out the min or max, rescan on the next query
+    private AssessmentStats cachedStats; // Null whenever the properties have changed since the last query
+    private long[] sortedValues; // Built on the first percentile or distribution query, null whenever the properties have changed
 
     public Neighbourhood(String name) {
         this.name = name;
         this.properties = new ArrayList<>();
+        this.positions = new IdentityHashMap<>();
     }
 
     public void addProperty(PropertyAssessment property) {
+        if (positions.putIfAbsent(property, properties.size()) != null) duplicates++;
         properties.add(property);
+
+        long value = property.getAssessedValue();
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        cachedStats = null;
+        sortedValues = null;
+    }
+
+    // Remove this exact property instance, returns false if it isn't in the neighbourhood
+    public boolean removeProperty(PropertyAssessment property) {
+        Integer position = positions.remove(property);
+        if (position == null) return false;
+
+        // Move the last property into the gap
+        int lastIndex = properties.size() - 1;
+        PropertyAssessment last = properties.remove(lastIndex);
+        if (position < lastIndex) {
+            properties.set(position, last);
+            // Only if this copy is the one tracked (IdentityHashMap.replace would compare the Integers by identity)
+            if (Objects.equals(positions.get(last), lastIndex)) positions.put(last, position);
+        }
+
+        // The same instance was added more than once, so point at a remaining copy (rare, hence the scan)
+        if (duplicates > 0) {
+            for (int i = 0; i < properties.size(); i++) {
+                if (properties.get(i) == property) {
+                    positions.put(property, i);
+                    duplicates--;
+                    break;
+                }
+            }
+        }
+
+        long value = property.getAssessedValue();
+        sum -= value;
+        if (value == min || value == max) extremesStale = true;
+        cachedStats = null;
+        sortedValues = null;
+        return true;
     }
 
     public String getName() { return name; }
     public int getCount() { return properties.size(); }
-    public List<PropertyAssessment> getProperties() { return properties; }
+    public List<PropertyAssessment> getProperties() {
+        return new ArrayList<>(properties); // Return a copy, changes have to go through add/removeProperty
+    }
 
     public Map<String, Object> getStatistics() {
-        return CalculateStatistics.calculateNeighbourhoodStats(properties);
+        return getAssessmentStats().toSummaryMap();
+    }
+
+    // Only the median needs a pass over the values, and only after a change
+    public AssessmentStats getAssessmentStats() {
+        if (cachedStats == null) {
+            cachedStats = computeStats();
+        }
+        return cachedStats;
+    }
+
+    // Percentile rank (0-100) of a value within this neighbourhood. The values are sorted once after
+    // each change, so ranking every property in turn is a binary search apiece.
+    public double getPercentileRank(long value) {
+        long[] sorted = getSortedValues();
+        return CalculateStatistics.percentileRank(sorted, sorted.length, value);
+    }
+
+    // Percentiles and standard deviation, sharing the sorted values with getPercentileRank
+    public DistributionStats getDistribution() {
+        long[] sorted = getSortedValues();
+        return CalculateStatistics.distributionOfSorted(sorted, sorted.length);
+    }
+
+    // Counts of this neighbourhood's values in the buckets of `layout`, which is left untouched
+    public Histogram getHistogram(Histogram layout) {
+        Histogram histogram = layout.emptyCopy();
+        for (PropertyAssessment property : properties) {
+            histogram.add(property.getAssessedValue());
+        }
+        return histogram;
+    }
+
+    private long[] getSortedValues() {
+        if (sortedValues == null) {
+            sortedValues = new long[properties.size()];
+            for (int i = 0; i < sortedValues.length; i++) {
+                sortedValues[i] = properties.get(i).getAssessedValue();
+            }
+            Arrays.sort(sortedValues);
+        }
+        return sortedValues;
+    }
+
+    private AssessmentStats computeStats() {
+        int count = properties.size();
+        if (count == 0) {
+            sum = 0;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            extremesStale = false;
+            return AssessmentStats.EMPTY;
+        }
+
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = properties.get(i).getAssessedValue();
+        }
+        if (extremesStale) {
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+            for (long value : values) {
+                if (value < min) min = value;
+                if (value > max) max = value;
+            }
+            extremesStale = false;
+        }
+        return new AssessmentStats(count, min, max, max - min, sum,
+                (double) sum / count, CalculateStatistics.calculateMedian(values, count));
     }
 
     @Override
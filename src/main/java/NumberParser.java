@@ -0,0 +1,237 @@
+import java.math.BigInteger;
+
+/**
+ * Allocation-free number parsing straight from a char buffer (such as the
+ * CsvTokenizer's), for the numeric columns of the assessment file. Whole
+ * numbers may contain thousands separators. Decimals are parsed exactly:
+ * short mantissas with Clinger's fast path (one correctly rounded multiply
+ * or divide), longer ones with the Eisel-Lemire algorithm, and the rare
+ * cases neither can settle go to Double.parseDouble, so results are always
+ * bit-identical to it. Invalid input gives back the caller's fallback
+ * value rather than throwing.
+ */
+
+public class NumberParser {
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    // Truncated 128-bit mantissas of 10^q for the Eisel-Lemire algorithm, as {high, low} pairs
+    private static final int MIN_POWER = -342;
+    private static final int MAX_POWER = 308;
+    private static final long[] POWERS_OF_TEN_128 = buildPowersOfTen();
+
+    public static long parseLong(String value, long fallback) {
+        return value == null ? fallback : parseLong(value.toCharArray(), 0, value.length(), fallback);
+    }
+
+    public static double parseDouble(String value, double fallback) {
+        return value == null ? fallback : parseDouble(value.toCharArray(), 0, value.length(), fallback);
+    }
+
+    // Whole number in chars[start, end) with an optional sign and any number of ',' separators,
+    // or `fallback` if it's empty, malformed or out of range
+    public static long parseLong(char[] chars, int start, int end, long fallback) {
+        int i = skipSeparators(chars, start, end);
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        // Accumulate negatively so Long.MIN_VALUE fits
+        long result = 0;
+        int digits = 0;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == ',') continue;
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) return fallback;
+            if (result < Long.MIN_VALUE / 10) return fallback;
+            result *= 10;
+            if (result < Long.MIN_VALUE + digit) return fallback;
+            result -= digit;
+            digits++;
+        }
+
+        if (digits == 0) return fallback;
+        if (!negative) {
+            if (result == Long.MIN_VALUE) return fallback;
+            return -result;
+        }
+        return result;
+    }
+
+    // Decimal number in chars[start, end): optional sign, digits with an optional fraction and an
+    // optional exponent, surrounding whitespace allowed. Anything else (including NaN, Infinity and
+    // hex) gives `fallback`.
+    public static double parseDouble(char[] chars, int start, int end, double fallback) {
+        while (start < end && chars[start] <= ' ') start++;
+        while (end > start && chars[end - 1] <= ' ') end--;
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        // Up to 19 significant digits go into the mantissa (as an unsigned long), beyond that only
+        // their count matters
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean truncated = false;
+
+        for (; i < end && isDigit(chars[i]); i++) {
+            digitCount++;
+            if (mantissa == 0 && chars[i] == '0') continue;
+            if (significantDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + (chars[i] - '0');
+                significantDigits++;
+            } else {
+                exponent++;
+                truncated |= chars[i] != '0';
+            }
+        }
+        if (i < end && chars[i] == '.') {
+            i++;
+            for (; i < end && isDigit(chars[i]); i++) {
+                digitCount++;
+                if (mantissa == 0 && chars[i] == '0') {
+                    exponent--;
+                    continue;
+                }
+                if (significantDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (chars[i] - '0');
+                    significantDigits++;
+                    exponent--;
+                } else {
+                    truncated |= chars[i] != '0';
+                }
+            }
+        }
+        if (digitCount == 0) return fallback;
+
+        if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExponent = chars[i] == '-';
+                i++;
+            }
+            int exponentDigits = 0;
+            int explicitExponent = 0;
+            for (; i < end && isDigit(chars[i]); i++) {
+                if (explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + (chars[i] - '0');
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) return fallback;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) return fallback;
+
+        if (mantissa == 0) return negative ? -0.0 : 0.0;
+        if (!truncated) {
+            double value = clinger(mantissa, exponent);
+            if (Double.isNaN(value)) value = eiselLemire(mantissa, exponent);
+            if (!Double.isNaN(value)) return negative ? -value : value;
+        }
+
+        // Too many digits or too close to call, let the JDK decide (the text is known to be valid)
+        return Double.parseDouble(new String(chars, start, end - start));
+    }
+
+    // Exact when the mantissa and the power of ten are both exact doubles, NaN otherwise
+    private static double clinger(long mantissa, int exponent) {
+        if (Long.compareUnsigned(mantissa, MAX_EXACT_MANTISSA) >= 0 || exponent < -22 || exponent > 22) {
+            return Double.NaN;
+        }
+        return exponent < 0
+                ? mantissa / EXACT_POWERS_OF_TEN[-exponent]
+                : mantissa * EXACT_POWERS_OF_TEN[exponent];
+    }
+
+    // Eisel-Lemire: multiply by a 128-bit approximation of 10^exponent and round, NaN if the
+    // approximation leaves the rounding ambiguous or the result isn't a normal double
+    private static double eiselLemire(long mantissa, int exponent) {
+        if (exponent < MIN_POWER || exponent > MAX_POWER) return Double.NaN;
+
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long normalized = mantissa << leadingZeros;
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - leadingZeros;
+
+        int index = 2 * (exponent - MIN_POWER);
+        long powerHigh = POWERS_OF_TEN_128[index];
+        long powerLow = POWERS_OF_TEN_128[index + 1];
+        long high = Math.unsignedMultiplyHigh(normalized, powerHigh);
+        long low = normalized * powerHigh;
+
+        // Widen to the low word of the power when the top product can't settle the rounding
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            long extraHigh = Math.unsignedMultiplyHigh(normalized, powerLow);
+            long extraLow = normalized * powerLow;
+            long mergedHigh = high;
+            long mergedLow = low + extraHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) mergedHigh++;
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0
+                    && Long.compareUnsigned(extraLow + normalized, normalized) < 0) {
+                return Double.NaN;
+            }
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        long topBit = high >>> 63;
+        long result = high >>> (topBit + 9);
+        binaryExponent -= 1 ^ topBit;
+
+        // Exactly half way between two doubles
+        if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) return Double.NaN;
+
+        // Round from 54 to 53 bits
+        result += result & 1;
+        result >>>= 1;
+        if ((result >>> 53) > 0) {
+            result >>>= 1;
+            binaryExponent++;
+        }
+
+        // Subnormals, infinities and NaN are left to the JDK
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) return Double.NaN;
+        return Double.longBitsToDouble(binaryExponent << 52 | result & 0x000FFFFFFFFFFFFFL);
+    }
+
+    // 10^q scaled to exactly 128 significant bits and rounded down, for every q in [MIN_POWER, MAX_POWER]
+    private static long[] buildPowersOfTen() {
+        long[] table = new long[2 * (MAX_POWER - MIN_POWER + 1)];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = MIN_POWER; q <= MAX_POWER; q++) {
+            BigInteger scaled;
+            if (q >= 0) {
+                BigInteger power = BigInteger.TEN.pow(q);
+                int shift = power.bitLength() - 128;
+                scaled = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                BigInteger divisor = BigInteger.TEN.pow(-q);
+                scaled = BigInteger.ONE.shiftLeft(127 + divisor.bitLength()).divide(divisor);
+            }
+            int index = 2 * (q - MIN_POWER);
+            table[index] = scaled.shiftRight(64).longValue();
+            table[index + 1] = scaled.and(mask).longValue();
+        }
+        return table;
+    }
+
+    private static int skipSeparators(char[] chars, int start, int end) {
+        while (start < end && chars[start] == ',') start++;
+        return start;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,226 @@
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join version of the statistics engine for large value arrays. The
+ * array is split into chunks whose partial count, min, max and sum are
+ * merged back up, and the median is found by narrowing down with merged
+ * histograms of the high bits of each value (a parallel radix select)
+ * until the bucket holding it is small enough to select sequentially.
+ * Below PARALLEL_THRESHOLD values the sequential engine is used as is.
+ * Unlike the sequential path, the array is left in its original order.
+ */
+
+public class ParallelStatistics {
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 14;
+    private static final int BUCKET_BITS = 12;
+
+    public static AssessmentStats computeStats(long[] values, int length) {
+        return computeStats(values, length, ForkJoinPool.commonPool());
+    }
+
+    public static AssessmentStats computeStats(long[] values, int length, ForkJoinPool pool) {
+        if (length < PARALLEL_THRESHOLD) {
+            return CalculateStatistics.computeSequentialStats(values, length);
+        }
+
+        Summary summary = pool.invoke(new SummaryTask(values, 0, length));
+        return new AssessmentStats(length, summary.min, summary.max, summary.max - summary.min, summary.sum,
+                (double) summary.sum / length, median(values, length, summary.min, summary.max, pool));
+    }
+
+    // Same definition as CalculateStatistics.calculateMedian (mean of the middle two for an even count)
+    static long median(long[] values, int length, long min, long max, ForkJoinPool pool) {
+        int middle = length / 2;
+        long upper = select(values, length, middle, min, max, pool);
+        if (length % 2 != 0) {
+            return upper;
+        }
+        long lower = select(values, length, middle - 1, min, max, pool);
+        return (lower + upper) / 2;
+    }
+
+    // The k-th smallest value, found without reordering the array. Each round histograms the values in
+    // [low, high] by their top bits (as offsets from `low`) and keeps only the bucket that holds rank k.
+    static long select(long[] values, int length, int k, long low, long high, ForkJoinPool pool) {
+        int rangeCount = length;
+        while (true) {
+            long width = high - low; // unsigned, the full long range can't overflow it
+            if (width == 0) return low;
+
+            int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(width) - BUCKET_BITS);
+            if (rangeCount < PARALLEL_THRESHOLD) {
+                long[] bucket = pool.invoke(new CollectTask(values, 0, length, low, high, rangeCount));
+                return CalculateStatistics.select(bucket, bucket.length, k);
+            }
+
+            int[] histogram = pool.invoke(new HistogramTask(values, 0, length, low, high, shift));
+            int bucket = 0;
+            while (k >= histogram[bucket]) {
+                k -= histogram[bucket++];
+            }
+            rangeCount = histogram[bucket];
+
+            // The last bucket can be partial, so stop at `high`
+            long offset = (long) bucket << shift;
+            long bucketWidth = (1L << shift) - 1;
+            if (Long.compareUnsigned(width - offset, bucketWidth) < 0) bucketWidth = width - offset;
+            low += offset;
+            high = low + bucketWidth;
+        }
+    }
+
+    // True when low <= value <= high, using unsigned offsets so the range can span the whole long range
+    private static boolean inRange(long value, long low, long high) {
+        return Long.compareUnsigned(value - low, high - low) <= 0;
+    }
+
+    private record Summary(long min, long max, long sum) {
+        Summary merge(Summary other) {
+            return new Summary(Math.min(min, other.min), Math.max(max, other.max), sum + other.sum);
+        }
+    }
+
+    /**
+     * Min, max and sum of a range of the array, split in half until the pieces are one chunk.
+     */
+    private static class SummaryTask extends RecursiveTask<Summary> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final int from;
+        private final int to;
+
+        SummaryTask(long[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= CHUNK_SIZE) {
+                long min = values[from];
+                long max = values[from];
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    long value = values[i];
+                    if (value < min) min = value;
+                    if (value > max) max = value;
+                    sum += value;
+                }
+                return new Summary(min, max, sum);
+            }
+
+            int middle = (from + to) >>> 1;
+            SummaryTask left = new SummaryTask(values, from, middle);
+            left.fork();
+            Summary right = new SummaryTask(values, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Counts of the values in [low, high] per bucket of 2^shift values, merged by adding the halves.
+     */
+    private static class HistogramTask extends RecursiveTask<int[]> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final int from;
+        private final int to;
+        private final long low;
+        private final long high;
+        private final int shift;
+
+        HistogramTask(long[] values, int from, int to, long low, long high, int shift) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+            this.shift = shift;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                int[] histogram = new int[(int) ((high - low) >>> shift) + 1];
+                for (int i = from; i < to; i++) {
+                    long value = values[i];
+                    if (inRange(value, low, high)) {
+                        histogram[(int) ((value - low) >>> shift)]++;
+                    }
+                }
+                return histogram;
+            }
+
+            int middle = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(values, from, middle, low, high, shift);
+            left.fork();
+            int[] histogram = new HistogramTask(values, middle, to, low, high, shift).compute();
+            int[] other = left.join();
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other[i];
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Copy of the values in [low, high], keeping their order. `expected` is how many there are in total.
+     */
+    private static class CollectTask extends RecursiveTask<long[]> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final int from;
+        private final int to;
+        private final long low;
+        private final long high;
+        private final int expected;
+
+        CollectTask(long[] values, int from, int to, long low, long high, int expected) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.low = low;
+            this.high = high;
+            this.expected = expected;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= CHUNK_SIZE) {
+                // Most chunks hold few matches, so start small and grow
+                long[] result = new long[Math.min(expected, 16)];
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    if (inRange(values[i], low, high)) {
+                        if (count == result.length) {
+                            result = Arrays.copyOf(result, Math.min(expected, count * 2));
+                        }
+                        result[count++] = values[i];
+                    }
+                }
+                return count == result.length ? result : Arrays.copyOf(result, count);
+            }
+
+            int middle = (from + to) >>> 1;
+            CollectTask left = new CollectTask(values, from, middle, low, high, expected);
+            left.fork();
+            long[] right = new CollectTask(values, middle, to, low, high, expected).compute();
+            long[] leftValues = left.join();
+
+            long[] result = Arrays.copyOf(leftValues, leftValues.length + right.length);
+            System.arraycopy(right, 0, result, leftValues.length, right.length);
+            return result;
+        }
+    }
+}
@@ -1,52 +1,392 @@
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for parsing CSV files, handling special cases like
- * commas within parentheses to ensure correct field splitting.
+ * Utility class for parsing CSV files, handling special cases like quoted
+ * fields and commas within parentheses to ensure correct field splitting.
+ * Rows can either be streamed one at a time, read into memory all at once,
+ * or parsed in parallel from a memory-mapped file.
  */
 
 public class ParseCSV {
+    // Keep each mapped chunk well under the 2 GB limit of a single MappedByteBuffer
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    // Read every data row into memory (thin wrapper around readRows)
     public static String[][] readData(Path filePath) throws IOException {
         List<String[]> dataList = new ArrayList<>();
+        readRows(filePath, dataList::add);
+
+        // Convert List<String[]> to String[][]
+        return dataList.toArray(new String[0][]);
+    }
+
+    // Hand each data row to the consumer as soon as it's parsed, so only one row is held at a time
+    public static void readRows(Path filePath, Consumer<String[]> rowConsumer) throws IOException {
+        readRecords(filePath, row -> rowConsumer.accept(row.toArray()));
+    }
+
+    // Lowest-level access: the consumer sees the tokenizer positioned on each row and only
+    // materializes the columns it actually needs
+    public static void readRecords(Path filePath, Consumer<CsvTokenizer> rowConsumer) throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(Files.newBufferedReader(filePath))) {
+            // Skip header line
+            tokenizer.nextRow();
+
+            while (tokenizer.nextRow()) {
+                rowConsumer.accept(tokenizer);
+            }
+        }
+    }
+
+    // Header-aware reading. The header is bound to a CsvSchema and handed to `binder`, which looks up
+    // the columns it needs with CsvSchema.require and returns the consumer for the data rows. Fields
+    // that weren't required, before or after the last required column, are skipped instead of being
+    // tokenized.
+    public static CsvSchema readColumns(Path filePath, Function<CsvSchema, Consumer<CsvTokenizer>> binder)
+            throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(Files.newBufferedReader(filePath))) {
+            CsvSchema schema = new CsvSchema(tokenizer.nextRow() ? tokenizer.toArray() : new String[0]);
+            Consumer<CsvTokenizer> rowConsumer = binder.apply(schema);
+            tokenizer.setColumnLimit(schema.getColumnLimit());
+            tokenizer.setSkippedColumns(schema.getSkippedColumns());
 
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            while (tokenizer.nextRow()) {
+                rowConsumer.accept(tokenizer);
+            }
+            return schema;
+        }
+    }
+
+    // Just the header row, bound to a schema
+    public static CsvSchema readSchema(Path filePath) throws IOException {
+        try (CsvTokenizer tokenizer = new CsvTokenizer(Files.newBufferedReader(filePath))) {
+            return new CsvSchema(tokenizer.nextRow() ? tokenizer.toArray() : new String[0]);
+        }
+    }
+
+    // Lazily stream the data rows, the caller is responsible for closing the stream
+    public static Stream<String[]> streamData(Path filePath) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(Files.newBufferedReader(filePath));
+        try {
             // Skip header line
-            reader.readLine();
-
-            // Split the lines, add complete data rows to dataList
-            String line;
-            while ((line = reader.readLine()) != null) {
-                // Split on the commas that aren't inside parentheses (was causing issues otherwise)
-                List<String> fields = new ArrayList<>();
-                StringBuilder currentField = new StringBuilder();
-                boolean insideParens = false;
-
-                for (char c : line.toCharArray()) {
-                    if (c == '(') {
-                        insideParens = true;
-                        currentField.append(c);
-                    } else if (c == ')') {
-                        insideParens = false;
-                        currentField.append(c);
-                    } else if (c == ',' && !insideParens) {
-                        fields.add(currentField.toString().trim());
-                        currentField = new StringBuilder();
+            tokenizer.nextRow();
+        } catch (IOException e) {
+            tokenizer.close();
+            throw e;
+        }
+
+        Spliterator<String[]> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super String[]> action) {
+                try {
+                    if (!tokenizer.nextRow()) return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                action.accept(tokenizer.toArray());
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(rows, false)
+                .onClose(() -> {
+                    try {
+                        tokenizer.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    // Memory-map the file, split it into row-aligned chunks and map every row on the given
+    // number of threads. Results come back in file order, exactly as the sequential readers
+    // would produce them, quoted fields with line breaks in them included.
+    public static <T> List<T> readRowsParallel(Path filePath, int threads, Function<String[], T> rowMapper)
+            throws IOException {
+        return readParallel(filePath, threads, row -> rowMapper.apply(row.toArray()), Integer.MAX_VALUE, null);
+    }
+
+    // Parallel counterpart of readColumns. The mapper returned by `binder` is shared by all threads.
+    public static <T> List<T> readColumnsParallel(Path filePath, int threads,
+                                                  Function<CsvSchema, Function<CsvTokenizer, T>> binder)
+            throws IOException {
+        CsvSchema schema = readSchema(filePath);
+        Function<CsvTokenizer, T> rowMapper = binder.apply(schema);
+        return readParallel(filePath, threads, rowMapper, schema.getColumnLimit(), schema.getSkippedColumns());
+    }
+
+    private static <T> List<T> readParallel(Path filePath, int threads, Function<CsvTokenizer, T> rowMapper,
+                                            int columnLimit, boolean[] skippedColumns) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkCount = (int) Math.max(threads, (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, chunkCount));
+            try {
+                long[] bounds = findChunkBounds(channel, chunkCount, pool);
+                if (bounds[0] == size) {
+                    return new ArrayList<>(); // Nothing after the header
+                }
+
+                List<Future<List<T>>> batches = new ArrayList<>();
+                for (int i = 0; i < chunkCount; i++) {
+                    long length = bounds[i + 1] - bounds[i];
+                    if (length > Integer.MAX_VALUE) {
+                        // Only a single row can stretch a chunk this far past its split, e.g. an unclosed quote
+                        throw new IOException("No row boundary between bytes " + bounds[i] + " and " + bounds[i + 1]
+                                + " of " + filePath + "; a row that long (unclosed quote?) can't be mapped");
+                    }
+                    if (length > 0) {
+                        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, bounds[i], length);
+                        batches.add(pool.submit(() -> readChunk(chunk, rowMapper, columnLimit, skippedColumns)));
+                    }
+                }
+
+                // Merge the batches in chunk order
+                List<T> results = new ArrayList<>();
+                for (Future<List<T>> batch : batches) {
+                    results.addAll(batch.get());
+                }
+                return results;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading " + filePath, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException io) throw io;
+                if (cause instanceof RuntimeException re) throw re;
+                throw new IOException("Failed to read " + filePath, cause);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private static <T> List<T> readChunk(ByteBuffer chunk, Function<CsvTokenizer, T> rowMapper, int columnLimit,
+                                         boolean[] skippedColumns) throws IOException {
+        List<T> batch = new ArrayList<>();
+        try (CsvTokenizer tokenizer = new CsvTokenizer(
+                new InputStreamReader(new ByteBufferInputStream(chunk), StandardCharsets.UTF_8))) {
+            tokenizer.setColumnLimit(columnLimit);
+            tokenizer.setSkippedColumns(skippedColumns);
+            while (tokenizer.nextRow()) {
+                batch.add(rowMapper.apply(tokenizer));
+            }
+        }
+        return batch;
+    }
+
+    // Where each chunk starts: bounds[0] is just past the header and bounds[i] is the first row
+    // start at or after the i-th even split of the file, with bounds[chunkCount] at the end.
+    // Every segment between two splits is scanned on the pool at once, each guessing that its
+    // split falls outside quotes; the guesses are then checked in file order against the state
+    // the previous segment really ended in. A wrong guess only costs a rescan of the segment up
+    // to the first row end it found, as the two scans agree from there on if they agree at all
+    // (only a quoted line break just past the split keeps them apart, and then the rest of that
+    // segment is rescanned too). Split points no row start follows, e.g. after an unclosed quote,
+    // fall back to the end of the file, leaving fewer chunks.
+    private static long[] findChunkBounds(FileChannel channel, int chunkCount, ExecutorService pool)
+            throws IOException, InterruptedException, ExecutionException {
+        long size = channel.size();
+        MappedByteBuffer[] segments = new MappedByteBuffer[chunkCount];
+        List<Future<RowStartScan>> guesses = new ArrayList<>();
+        for (int i = 0; i < chunkCount; i++) {
+            long start = size * i / chunkCount;
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                    size * (i + 1) / chunkCount - start);
+            RowStartScan guess = i == 0 ? new RowStartScan() : RowStartScan.atRowStart();
+            segments[i] = segment;
+            guesses.add(pool.submit(() -> {
+                guess.scan(segment, start, 0, segment.limit());
+                return guess;
+            }));
+        }
+
+        long[] bounds = new long[chunkCount + 1];
+        Arrays.fill(bounds, size);
+        int next = 0; // Index of the next bound to find, the first row start at or after its split
+        RowStartScan previous = null;
+        for (int i = 0; i < chunkCount; i++) {
+            long start = size * i / chunkCount;
+            RowStartScan scan = guesses.get(i).get();
+            if (previous != null && !previous.sameState(RowStartScan.atRowStart())) {
+                RowStartScan guess = scan;
+                int synced = guess.firstRowStart < 0 ? segments[i].limit() : (int) (guess.firstRowStart - start);
+                scan = previous.continued();
+                scan.scan(segments[i], start, 0, synced);
+                if (guess.firstRowStart >= 0 && scan.sameState(RowStartScan.atRowStart())) {
+                    scan.takeOver(guess);
+                } else {
+                    scan.scan(segments[i], start, synced, segments[i].limit());
+                }
+            }
+
+            // Row starts between the first and last of a segment are never the first past a split
+            for (long rowStart : new long[] {scan.firstRowStart, scan.lastRowStart}) {
+                while (rowStart >= 0 && next < chunkCount && rowStart >= size * next / chunkCount) {
+                    bounds[next++] = rowStart;
+                }
+            }
+            previous = scan;
+        }
+        return bounds;
+    }
+
+    // State of the scan for row starts, following quotes the way CsvTokenizer does so a line break
+    // inside a quoted field is never taken for the end of a row (the bytes of multi-byte UTF-8
+    // characters never match any of the ASCII ones looked at)
+    private static class RowStartScan {
+        private boolean inQuotes;
+        private boolean closing; // Just saw a quote inside quotes, either closing or the first of ""
+        private boolean blank = true; // Nothing but whitespace so far in the current field
+        private boolean content; // The current row isn't a blank line
+        private boolean headerRead; // Like the tokenizer, blank lines before the header are skipped
+        private int parenDepth;
+        private long firstRowStart = -1; // Row starts found by this scan, -1 while there are none
+        private long lastRowStart = -1;
+
+        // Where a segment is guessed to start: at the beginning of a row, somewhere past the header
+        static RowStartScan atRowStart() {
+            RowStartScan scan = new RowStartScan();
+            scan.headerRead = true;
+            return scan;
+        }
+
+        // A scan picking up in the state this one ended in, with no row starts found yet
+        RowStartScan continued() {
+            RowStartScan scan = new RowStartScan();
+            scan.inQuotes = inQuotes;
+            scan.closing = closing;
+            scan.blank = blank;
+            scan.content = content;
+            scan.headerRead = headerRead;
+            scan.parenDepth = parenDepth;
+            return scan;
+        }
+
+        boolean sameState(RowStartScan other) {
+            return inQuotes == other.inQuotes && closing == other.closing && blank == other.blank
+                    && content == other.content && headerRead == other.headerRead
+                    && parenDepth == other.parenDepth;
+        }
+
+        // Adopt the end state and last row start of a scan over the rest of the segment
+        void takeOver(RowStartScan rest) {
+            inQuotes = rest.inQuotes;
+            closing = rest.closing;
+            blank = rest.blank;
+            content = rest.content;
+            headerRead = rest.headerRead;
+            parenDepth = rest.parenDepth;
+            lastRowStart = rest.lastRowStart;
+        }
+
+        // Scan bytes [from, to) of a segment starting at the given file offset
+        void scan(ByteBuffer bytes, long offset, int from, int to) {
+            for (int i = from; i < to; i++) {
+                // As in CsvTokenizer.skipRestOfRow, every byte that matters sorts at or below ',', so
+                // ordinary text is passed over one compare per byte (unless a quote is pending)
+                if (!closing) {
+                    int start = i;
+                    while (i < to && bytes.get(i) > ',') i++;
+                    if (i > start) {
+                        blank = false;
+                        content = true;
+                    }
+                    if (i == to) break;
+                }
+
+                byte b = bytes.get(i);
+                if (inQuotes) {
+                    if (closing) {
+                        closing = false;
+                        if (b == '"') continue; // Escaped quote
+                        inQuotes = false; // Closed, so this byte is outside the quotes
                     } else {
-                        currentField.append(c);
+                        if (b == '"') closing = true;
+                        continue;
+                    }
+                }
+
+                if (b == '\n' || b == '\r') {
+                    headerRead |= content;
+                    content = false;
+                    blank = true;
+                    parenDepth = 0;
+                    if (headerRead) {
+                        // Also after the '\r' of "\r\n": a chunk starting on the '\n' skips it as a blank line
+                        lastRowStart = offset + i + 1;
+                        if (firstRowStart < 0) firstRowStart = lastRowStart;
                     }
+                    continue;
                 }
-                fields.add(currentField.toString().trim());
 
-                dataList.add(fields.toArray(new String[0]));
+                content = true;
+                if (b == '"' && blank) {
+                    inQuotes = true;
+                    blank = false;
+                } else if (b == ',' && parenDepth == 0) {
+                    blank = true;
+                } else if (b == '(') {
+                    parenDepth++;
+                    blank = false;
+                } else if (b == ')') {
+                    if (parenDepth > 0) parenDepth--;
+                    blank = false;
+                } else if (b < 0 || b > ' ') {
+                    blank = false;
+                }
             }
         }
+    }
 
-        // Convert List<String[]> to String[][]
-        return dataList.toArray(new String[0][]);
+    // Minimal InputStream over a (mapped) buffer so chunks can be decoded without copying them
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
     }
 }
@@ -1,4 +1,5 @@
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -11,8 +12,27 @@ import java.util.stream.Collectors;
  */
 
 public class PrintReport {
+    private static final int HISTOGRAM_BAR_WIDTH = 40;
+
     // Print complete property assessment details
     public static void printPropertyAssessment(PropertyAssessment assessment) {
+        printAssessmentReport(assessment, "");
+    }
+
+    // Same report plus where the value ranks in its neighbourhood and the city (NaN leaves a line out)
+    public static void printPropertyAssessment(PropertyAssessment assessment, double neighbourhoodPercentile,
+                                               double cityPercentile) {
+        StringBuilder percentiles = new StringBuilder();
+        if (!Double.isNaN(neighbourhoodPercentile)) {
+            percentiles.append(String.format("Neighbourhood percentile: %.1f%n", neighbourhoodPercentile));
+        }
+        if (!Double.isNaN(cityPercentile)) {
+            percentiles.append(String.format("City percentile: %.1f%n", cityPercentile));
+        }
+        printAssessmentReport(assessment, percentiles.toString());
+    }
+
+    private static void printAssessmentReport(PropertyAssessment assessment, String extraLines) {
         if (assessment == null) {
             System.out.println("Property not found.");
             return;
@@ -36,27 +56,39 @@ public class PrintReport {
             Assessment class: %s
             Neighbourhood: %s
             Location: %s
-            %n""",
+            %s%n""",
                 assessment.getAccountNumber(),
                 assessment.getAddress(),
                 assessment.getAssessedValue(),
                 assessmentClassesWithPercentages,
                 assessment.getNeighbourhood(),
-                assessment.getLocation()
+                assessment.getLocation(),
+                extraLines
         );
     }
 
     // Print neighborhood statistics (removed duplicate method)
     public static void printHoodStats(String hoodName, Map<String, Object> stats) {
-        if (stats.get("count") != null && ((Number)stats.get("count")).intValue() > 0) {
-            System.out.println("There are " + ((Number)stats.get("count")).intValue() + " properties in " + hoodName);
-            System.out.printf("The mean value is $%,.2f%n", ((Number)stats.get("mean")).doubleValue());
-            System.out.printf("The median value is $%,d%n", ((Number)stats.get("median")).longValue());
+        printHoodStats(hoodName, AssessmentStats.fromMap(stats));
+    }
+
+    public static void printHoodStats(String hoodName, AssessmentStats stats) {
+        if (stats.count() > 0) {
+            System.out.println("There are " + stats.count() + " properties in " + hoodName);
+            System.out.printf("The mean value is $%,.2f%n", stats.mean());
+            System.out.printf("The median value is $%,d%n", stats.median());
         } else {
             System.out.println("Sorry, can't find data for " + hoodName);
         }
     }
 
+    // Offer close matches when a neighbourhood lookup fails
+    public static void printNeighbourhoodSuggestions(List<String> suggestions) {
+        if (!suggestions.isEmpty()) {
+            System.out.println("Did you mean: " + String.join(", ", suggestions) + "?");
+        }
+    }
+
     // Print assessment class statistics with different formats
     public static void printClassStats(String className, Map<String, Object> stats, boolean includeMinMaxRange) {
         if (stats.get("count") != null && ((Number)stats.get("count")).intValue() > 0) {
@@ -77,8 +109,29 @@ public class PrintReport {
         }
     }
 
+    public static void printClassStats(String className, AssessmentStats stats, boolean includeMinMaxRange) {
+        if (stats.count() > 0) {
+            System.out.println("There are " + stats.count() + " " + className + " properties in Edmonton");
+
+            if (includeMinMaxRange) {
+                System.out.printf("The min value is $%,d%n", stats.min());
+                System.out.printf("The max value is $%,d%n", stats.max());
+                System.out.printf("The range is $%,d%n", stats.range());
+            } else {
+                System.out.printf("The mean value is $%,.2f%n", stats.mean());
+                System.out.printf("The median value is $%,d%n", stats.median());
+            }
+        } else {
+            System.out.println("Sorry, no properties found for assessment class: " + className);
+        }
+    }
+
     // Print full statistics
     public static void printAllStats(String title, Map<String, Object> stats) {
+        printAllStats(title, AssessmentStats.fromMap(stats));
+    }
+
+    public static void printAllStats(String title, AssessmentStats stats) {
         System.out.printf("""
             %s
             -------------------------------
@@ -89,12 +142,72 @@ public class PrintReport {
             Mean: $%,.2f
             Median: $%,d%n""",
                 title,
-                ((Number)stats.get("count")).intValue(),
-                ((Number)stats.get("min")).longValue(),
-                ((Number)stats.get("max")).longValue(),
-                ((Number)stats.get("range")).longValue(),
-                ((Number)stats.get("mean")).doubleValue(),
-                ((Number)stats.get("median")).longValue()
+                stats.count(),
+                stats.min(),
+                stats.max(),
+                stats.range(),
+                stats.mean(),
+                stats.median()
         );
     }
-}
\ No newline at end of file
+
+    // Print percentiles and spread
+    public static void printDistributionStats(String title, DistributionStats stats) {
+        if (stats.isEmpty()) {
+            System.out.println("Sorry, can't find data for " + title);
+            return;
+        }
+
+        System.out.printf("""
+            %s
+            -------------------------------
+            n: %d
+            Mean: $%,.2f
+            Standard deviation: $%,.2f
+            Min: $%,d
+            5th percentile: $%,.0f
+            25th percentile: $%,.0f
+            Median: $%,.0f
+            75th percentile: $%,.0f
+            95th percentile: $%,.0f
+            99th percentile: $%,.0f
+            Max: $%,d
+            Interquartile range: $%,.0f%n""",
+                title,
+                stats.count(),
+                stats.mean(),
+                stats.standardDeviation(),
+                stats.min(),
+                stats.p5(),
+                stats.p25(),
+                stats.median(),
+                stats.p75(),
+                stats.p95(),
+                stats.p99(),
+                stats.max(),
+                stats.iqr()
+        );
+    }
+
+    // Print one line per bucket with a bar scaled to the fullest bucket
+    public static void printHistogram(String title, Histogram histogram) {
+        System.out.println(title);
+        System.out.println("-------------------------------");
+        if (histogram.getUnderflow() > 0) {
+            System.out.printf("Below $%,d: %,d%n", histogram.getLowerBound(0), histogram.getUnderflow());
+        }
+
+        long maxCount = histogram.getMaxCount();
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            long count = histogram.getCount(i);
+            int bar = maxCount == 0 ? 0 : (int) Math.round(HISTOGRAM_BAR_WIDTH * (double) count / maxCount);
+            System.out.printf("$%,d - $%,d: %,d %s%n", histogram.getLowerBound(i), histogram.getUpperBound(i) - 1,
+                    count, "#".repeat(bar));
+        }
+
+        if (histogram.getOverflow() > 0) {
+            System.out.printf("$%,d and above: %,d%n", histogram.getUpperBound(histogram.getBucketCount() - 1),
+                    histogram.getOverflow());
+        }
+    }
+}
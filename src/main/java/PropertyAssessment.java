@@ -1,3 +1,4 @@
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -14,11 +15,20 @@ public class PropertyAssessment implements Comparable<PropertyAssessment> {
     private final String[] assessmentClasses;
     private final double[] assessmentClassPercentages;
     private final String ward;
+    private final String garage;
 
     public PropertyAssessment(String accountNumber, Address address,
                               String neighbourhood, long assessedValue,
                               Location location, String[] assessmentClasses,
                               double[] assessmentClassPercentages, String ward) {
+        this(accountNumber, address, neighbourhood, assessedValue, location,
+                assessmentClasses, assessmentClassPercentages, ward, "");
+    }
+
+    public PropertyAssessment(String accountNumber, Address address,
+                              String neighbourhood, long assessedValue,
+                              Location location, String[] assessmentClasses,
+                              double[] assessmentClassPercentages, String ward, String garage) {
         this.accountNumber = accountNumber;
         this.address = address;
         this.neighbourhood = neighbourhood;
@@ -27,27 +37,36 @@ public class PropertyAssessment implements Comparable<PropertyAssessment> {
         this.assessmentClasses = assessmentClasses;
         this.assessmentClassPercentages = assessmentClassPercentages;
         this.ward = ward;
+        this.garage = garage;
     }
 
     public PropertyAssessment(String[] data) {
+        this(data, null);
+    }
+
+    // Same as above, with repeated values interned into the dictionaries of the collection the row
+    // is going into (kept as they are when `dictionaries` is null)
+    public PropertyAssessment(String[] data, AssessmentDictionaries dictionaries) {
         this.accountNumber = data[0];
         this.address = new Address(
                 data[1], // suite
                 data[2], // houseNumber
-                data[3]  // streetName
+                intern(dictionaries == null ? null : dictionaries.streets, data[3])  // streetName
         );
-        this.neighbourhood = data[6];
-        this.ward = data[7];
+        this.garage = intern(dictionaries == null ? null : dictionaries.garages, data[4]);
+        this.neighbourhood = intern(dictionaries == null ? null : dictionaries.neighbourhoods, data[6]);
+        this.ward = intern(dictionaries == null ? null : dictionaries.wards, data[7]);
         this.assessedValue = parseAssessedValue(data[8]);
         this.location = new Location(
-                Double.parseDouble(data[9]),  // latitude
-                Double.parseDouble(data[10])  // longitude
+                parseCoordinate(data[9]),  // latitude
+                parseCoordinate(data[10])  // longitude
         );
 
+        StringDictionary classes = dictionaries == null ? null : dictionaries.assessmentClasses;
         this.assessmentClasses = new String[]{
-                data[15],
-                data[16],
-                data[17]
+                intern(classes, data[15]),
+                intern(classes, data[16]),
+                intern(classes, data[17])
         };
 
         this.assessmentClassPercentages = new double[]{
@@ -57,20 +76,61 @@ public class PropertyAssessment implements Comparable<PropertyAssessment> {
         };
     }
 
-    private long parseAssessedValue(String value) {
-        try {
-            return Long.parseLong(value.replace(",", ""));
-        } catch (NumberFormatException e) {
-            return 0;
+    // Read straight from the tokenizer through header-bound positions, only the needed columns become Strings.
+    // Repeated values are interned into the dictionaries of the collection being loaded.
+    public PropertyAssessment(CsvTokenizer row, AssessmentColumns columns, AssessmentDictionaries dictionaries) {
+        this.accountNumber = row.getField(columns.accountNumber);
+        this.address = new Address(
+                row.getField(columns.suite),
+                row.getField(columns.houseNumber),
+                dictionaries.streets.intern(row.getField(columns.streetName))
+        );
+        this.garage = dictionaries.garages.intern(row.getField(columns.garage));
+        this.neighbourhood = dictionaries.neighbourhoods.intern(row.getField(columns.neighbourhood));
+        this.ward = dictionaries.wards.intern(row.getField(columns.ward));
+        this.assessedValue = row.getLong(columns.assessedValue, 0);
+        this.location = new Location(
+                readCoordinate(row, columns.latitude),
+                readCoordinate(row, columns.longitude)
+        );
+
+        int classCount = columns.classes.length;
+        this.assessmentClasses = new String[classCount];
+        this.assessmentClassPercentages = new double[classCount];
+        for (int i = 0; i < classCount; i++) {
+            assessmentClasses[i] = dictionaries.assessmentClasses.intern(row.getField(columns.classes[i]));
+            assessmentClassPercentages[i] = row.getDouble(columns.classPercentages[i], 0.0);
         }
     }
 
+    private static String intern(StringDictionary dictionary, String value) {
+        return dictionary == null ? value : dictionary.intern(value);
+    }
+
+    // Unparseable values count as zero
+    private long parseAssessedValue(String value) {
+        return NumberParser.parseLong(value, 0);
+    }
+
     private double parsePercentage(String value) {
-        try {
-            return value.isEmpty() ? 0.0 : Double.parseDouble(value);
-        } catch (NumberFormatException e) {
-            return 0.0;
+        return NumberParser.parseDouble(value, 0.0);
+    }
+
+    // A row without a usable location is rejected outright
+    private double parseCoordinate(String value) {
+        double coordinate = NumberParser.parseDouble(value, Double.NaN);
+        if (Double.isNaN(coordinate)) {
+            throw new NumberFormatException("Invalid coordinate: \"" + value + "\"");
+        }
+        return coordinate;
+    }
+
+    private double readCoordinate(CsvTokenizer row, int column) {
+        double coordinate = row.getDouble(column, Double.NaN);
+        if (Double.isNaN(coordinate)) {
+            throw new NumberFormatException("Invalid coordinate: \"" + row.getField(column) + "\"");
         }
+        return coordinate;
     }
 
     // Getters
@@ -80,7 +140,9 @@ public class PropertyAssessment implements Comparable<PropertyAssessment> {
     public long getAssessedValue() { return assessedValue; }
     public Location getLocation() { return location; }
     public String[] getAssessmentClasses() { return assessmentClasses; }
+    public double[] getAssessmentClassPercentages() { return assessmentClassPercentages; }
     public String getWard() { return ward; }
+    public String getGarage() { return garage; }
 
     public double getAssessmentClassPercentage(String className) {
         if (className == null) return 0.0;
@@ -93,6 +155,20 @@ public class PropertyAssessment implements Comparable<PropertyAssessment> {
         return 0.0;
     }
 
+    // Field-by-field comparison (equals only looks at the account number)
+    public boolean hasSameData(PropertyAssessment other) {
+        return other != null
+                && Objects.equals(accountNumber, other.accountNumber)
+                && Objects.equals(address, other.address)
+                && Objects.equals(neighbourhood, other.neighbourhood)
+                && assessedValue == other.assessedValue
+                && Objects.equals(location, other.location)
+                && Arrays.equals(assessmentClasses, other.assessmentClasses)
+                && Arrays.equals(assessmentClassPercentages, other.assessmentClassPercentages)
+                && Objects.equals(ward, other.ward)
+                && Objects.equals(garage, other.garage);
+    }
+
     @Override
     public int compareTo(PropertyAssessment o) {
         return Long.compare(this.assessedValue, o.assessedValue);
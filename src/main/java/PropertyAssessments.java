@@ -1,47 +1,212 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Collection class for managing multiple property assessments, with methods
  * for searching, grouping by neighborhood, and calculating statistics.
+ * Iterating, streaming or taking view() reads the assessments in place;
+ * getAssessments() is the copying alternative for callers that need a
+ * snapshot they can modify.
  */
 
-public class PropertyAssessments {
+public class PropertyAssessments implements Iterable<PropertyAssessment> {
     private final List<PropertyAssessment> assessments;
+    private final List<PropertyAssessment> readOnlyAssessments; // Unmodifiable view of `assessments`
     private final Map<String, Neighbourhood> neighbourhoods;
+    private final AccountIndex accountIndex;
+    private final AssessmentDictionaries dictionaries; // Values interned by the rows parsed into this collection
+    private final Map<Integer, Bitmap> classBitmaps; // Rows with a positive share of each class, by class code
+    private final Bitmap mixedUse; // Rows with a positive share of more than one class
+    private String[] sortedNeighbourhoodKeys; // Built lazily for prefix lookups, null when stale
+    private SpatialIndex spatialIndex; // Built lazily for location queries, null when stale
+    private ValueIndex valueIndex; // Built lazily for value queries, null when stale
+    private long version; // Bumped on every change, so results cached elsewhere can tell they're stale
 
     public PropertyAssessments() {
         this.assessments = new ArrayList<>();
+        this.readOnlyAssessments = Collections.unmodifiableList(assessments);
         this.neighbourhoods = new HashMap<>();
+        this.accountIndex = new AccountIndex();
+        this.dictionaries = new AssessmentDictionaries();
+        this.classBitmaps = new HashMap<>();
+        this.mixedUse = new Bitmap();
+    }
+
+    // Build a collection from a CSV file, parsing it on the given number of threads
+    public static PropertyAssessments loadCsv(Path filePath, int threads) throws IOException {
+        PropertyAssessments assessments = new PropertyAssessments();
+
+        if (threads <= 1) {
+            AssessmentDictionaries dictionaries = assessments.dictionaries;
+            ParseCSV.readColumns(filePath, schema -> {
+                AssessmentColumns columns = AssessmentColumns.bind(schema);
+                return row -> assessments.addAssessment(new PropertyAssessment(row, columns, dictionaries));
+            });
+        } else {
+            for (PropertyAssessment assessment : readParallel(filePath, threads, assessments.dictionaries)) {
+                assessments.addAssessment(assessment);
+            }
+        }
+        return assessments;
+    }
+
+    // Every row of the file, parsed on `threads` threads (sequentially for 1 or less)
+    private static List<PropertyAssessment> readAll(Path filePath, int threads,
+                                                    AssessmentDictionaries dictionaries) throws IOException {
+        if (threads > 1) return readParallel(filePath, threads, dictionaries);
+
+        List<PropertyAssessment> rows = new ArrayList<>();
+        ParseCSV.readColumns(filePath, schema -> {
+            AssessmentColumns columns = AssessmentColumns.bind(schema);
+            return row -> rows.add(new PropertyAssessment(row, columns, dictionaries));
+        });
+        return rows;
+    }
+
+    // Columns are located by header name, then rows are parsed on `threads` threads
+    private static List<PropertyAssessment> readParallel(Path filePath, int threads,
+                                                         AssessmentDictionaries dictionaries) throws IOException {
+        return ParseCSV.readColumnsParallel(filePath, threads, schema -> {
+            AssessmentColumns columns = AssessmentColumns.bind(schema);
+            return row -> new PropertyAssessment(row, columns, dictionaries);
+        });
+    }
+
+    // Load from the binary snapshot next to the CSV when it's up to date, falling back to parsing.
+    // Snapshots are only written on request, see AssessmentSnapshot.refresh.
+    public static PropertyAssessments load(Path filePath, int threads) throws IOException {
+        return AssessmentSnapshot.load(filePath, threads);
+    }
+
+    public void writeSnapshot(Path snapshotPath, Path sourcePath) throws IOException {
+        AssessmentSnapshot.write(this, snapshotPath, sourcePath);
     }
 
     public void addAssessment(PropertyAssessment assessment) {
+        int row = assessments.size();
+        accountIndex.putIfAbsent(assessment.getAccountNumber(), row);
         assessments.add(assessment);
-        neighbourhoods
-                .computeIfAbsent(assessment.getNeighbourhood(), Neighbourhood::new)
-                .addProperty(assessment);
+        indexClasses(assessment, row);
+        addToNeighbourhood(assessment);
+        spatialIndex = null;
+        valueIndex = null;
+        version++;
+    }
+
+    // Bring the collection in line with a newer copy of the file, matching rows by account number.
+    // Only new, changed and vanished rows touch the lists and indexes, though the whole file is
+    // still parsed. Deleted rows are filled by moving the last row into their place, so row order
+    // isn't preserved across updates. The file is parsed in full before anything is applied, so a
+    // malformed file throws and leaves the collection as it was.
+    public UpdateSummary applyUpdate(Path filePath, int threads) throws IOException {
+        List<PropertyAssessment> incoming = readAll(filePath, threads, dictionaries);
+
+        Bitmap seen = new Bitmap();
+        int[] counts = new int[3]; // inserted, updated, unchanged
+        for (PropertyAssessment assessment : incoming) {
+            applyRow(assessment, seen, counts);
+        }
+
+        // Remove rows missing from the new file, from the end so each swap only moves a kept row
+        int deleted = 0;
+        for (int row = assessments.size() - 1; row >= 0; row--) {
+            if (!seen.get(row)) {
+                removeRow(row);
+                deleted++;
+            }
+        }
+        return new UpdateSummary(counts[0], counts[1], deleted, counts[2]);
+    }
+
+    public long getVersion() { return version; }
+
+    // Compact column-oriented copy of this collection
+    public ColumnarAssessments toColumnar() {
+        return ColumnarAssessments.from(this);
     }
 
     public List<PropertyAssessment> getAssessments() {
         return new ArrayList<>(assessments); // Return a copy to prevent modification
     }
 
+    // Read-only view without copying, it reflects later changes to the collection
+    public List<PropertyAssessment> view() { return readOnlyAssessments; }
+
+    public int size() { return assessments.size(); }
+
+    @Override
+    public Iterator<PropertyAssessment> iterator() { return readOnlyAssessments.iterator(); }
+
+    @Override
+    public void forEach(Consumer<? super PropertyAssessment> action) { assessments.forEach(action); }
+
+    // Splits evenly by index, so stream().parallel() divides the rows cleanly between threads
+    @Override
+    public Spliterator<PropertyAssessment> spliterator() { return readOnlyAssessments.spliterator(); }
+
+    public Stream<PropertyAssessment> stream() { return assessments.stream(); }
+
     public PropertyAssessment findByAccountNumber(String accountNumber) {
-        return assessments.stream()
-                .filter(p -> p.getAccountNumber().equals(accountNumber))
-                .findFirst()
-                .orElse(null);
+        int row = accountIndex.get(accountNumber);
+        return row == AccountIndex.NOT_FOUND ? null : assessments.get(row);
+    }
+
+    // Bulk lookup, returns the matching properties in the order requested (missing ones are skipped)
+    public List<PropertyAssessment> findAll(Collection<String> accountNumbers) {
+        List<PropertyAssessment> found = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            int row = accountIndex.get(accountNumber);
+            if (row != AccountIndex.NOT_FOUND) {
+                found.add(assessments.get(row));
+            }
+        }
+        return found;
     }
 
     public Neighbourhood getNeighbourhood(String name) {
         if (name == null) return null;
-        return neighbourhoods.entrySet().stream()
-                .filter(entry -> entry.getKey().equalsIgnoreCase(name))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
+        return neighbourhoods.get(normalizeName(name));
+    }
+
+    // Names of neighbourhoods starting with the given prefix (case-insensitive), in alphabetical order
+    public List<String> completeNeighbourhoodName(String prefix, int limit) {
+        List<String> matches = new ArrayList<>();
+        if (prefix == null || limit <= 0) return matches;
+
+        String[] keys = getSortedNeighbourhoodKeys();
+        String normalizedPrefix = normalizeName(prefix);
+
+        // Keys sharing the prefix sit in one contiguous run starting at the insertion point
+        int index = Arrays.binarySearch(keys, normalizedPrefix);
+        if (index < 0) index = -index - 1;
+
+        while (index < keys.length && matches.size() < limit && keys[index].startsWith(normalizedPrefix)) {
+            matches.add(neighbourhoods.get(keys[index]).getName());
+            index++;
+        }
+        return matches;
+    }
+
+    // Statistics for every neighbourhood, one fork/join task each, sorted by name
+    public List<HoodAssessment> getHoodAssessments() {
+        return neighbourhoods.values().parallelStream()
+                .map(HoodAssessment::new)
+                .sorted(Comparator.comparing(HoodAssessment::getName, String.CASE_INSENSITIVE_ORDER))
+                .toList();
     }
 
     public Map<String, Object> getCityStatistics() {
@@ -49,6 +214,256 @@ public class PropertyAssessments {
     }
 
     public Map<String, Object> getAssessmentClassStatistics(String assessmentClass) {
-        return CalculateStatistics.calculateAssessmentClassStats(assessments, assessmentClass);
+        return getAssessmentClassStats(assessmentClass).toSummaryMap();
+    }
+
+    public AssessmentStats getCityStats() {
+        return CalculateStatistics.computeStats(assessments);
+    }
+
+    // Only visits the rows in the class index rather than the whole collection
+    public AssessmentStats getAssessmentClassStats(String assessmentClass) {
+        return getStats(getClassBitmap(assessmentClass));
+    }
+
+    // Rows with a positive share of the class (case-insensitive), as a copy safe to combine or modify
+    public Bitmap getClassBitmap(String assessmentClass) {
+        Bitmap rows = classBitmaps.get(dictionaries.assessmentClasses.codeOf(assessmentClass));
+        return rows == null ? new Bitmap() : rows.copy();
+    }
+
+    public Bitmap getMixedUseBitmap() {
+        return mixedUse.copy();
+    }
+
+    // Grid index over the property locations, its row numbers line up with the class bitmaps
+    public SpatialIndex getSpatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = new SpatialIndex(assessments);
+        }
+        return spatialIndex;
+    }
+
+    public List<PropertyAssessment> findWithinRadius(Location centre, double meters) {
+        return getSpatialIndex().findWithinRadius(centre, meters);
+    }
+
+    public List<PropertyAssessment> findNearest(Location centre, int count) {
+        return getSpatialIndex().findNearest(centre, count);
+    }
+
+    // Assessed values in sorted order, its row numbers line up with the class bitmaps
+    public ValueIndex getValueIndex() {
+        if (valueIndex == null) {
+            valueIndex = new ValueIndex(assessments);
+        }
+        return valueIndex;
+    }
+
+    // Number of properties assessed between min and max, inclusive
+    public int countInValueRange(long min, long max) {
+        return getValueIndex().countInRange(min, max);
+    }
+
+    public List<PropertyAssessment> findInValueRange(long min, long max) {
+        return getValueIndex().findInRange(min, max);
+    }
+
+    public List<PropertyAssessment> findMostValuable(int count) {
+        return getValueIndex().top(count);
+    }
+
+    public List<PropertyAssessment> findLeastValuable(int count) {
+        return getValueIndex().bottom(count);
+    }
+
+    // Most valuable properties in one ward, matched case-insensitively
+    public List<PropertyAssessment> findMostValuableInWard(String ward, int count) {
+        return getValueIndex().top(count, inWard(ward));
+    }
+
+    // Percentile rank (0-100) of a property's value among every property in the city
+    public double getCityPercentileRank(PropertyAssessment assessment) {
+        return getValueIndex().percentileRank(assessment.getAssessedValue());
+    }
+
+    // Percentile rank (0-100) within the property's own neighbourhood, NaN if it isn't in one
+    public double getNeighbourhoodPercentileRank(PropertyAssessment assessment) {
+        Neighbourhood neighbourhood = getNeighbourhood(assessment.getNeighbourhood());
+        return neighbourhood == null ? Double.NaN : neighbourhood.getPercentileRank(assessment.getAssessedValue());
+    }
+
+    // City-wide percentiles and standard deviation, read off the value index without another sort
+    public DistributionStats getCityDistribution() {
+        return getValueIndex().getDistribution();
+    }
+
+    public DistributionStats getNeighbourhoodDistribution(String name) {
+        Neighbourhood neighbourhood = getNeighbourhood(name);
+        return neighbourhood == null ? DistributionStats.EMPTY : neighbourhood.getDistribution();
+    }
+
+    // Ward names match case-insensitively, like findMostValuableInWard
+    public DistributionStats getWardDistribution(String ward) {
+        long[] values = assessments.stream()
+                .filter(inWard(ward))
+                .mapToLong(PropertyAssessment::getAssessedValue)
+                .toArray();
+        return CalculateStatistics.computeDistribution(values, values.length);
+    }
+
+    public DistributionStats getAssessmentClassDistribution(String assessmentClass) {
+        return CalculateStatistics.computeDistribution(assessments, getClassBitmap(assessmentClass));
+    }
+
+    // Counts of every assessed value in the buckets of `layout` (which is left untouched). Slices of
+    // the collection are counted in parallel and their histograms merged.
+    public Histogram getHistogram(Histogram layout) {
+        return getHistogram(layout, property -> true);
+    }
+
+    // Same, for the properties that pass the filter (e.g. one ward or class)
+    public Histogram getHistogram(Histogram layout, Predicate<PropertyAssessment> filter) {
+        return assessments.parallelStream()
+                .filter(filter)
+                .collect(layout::emptyCopy, (histogram, property) -> histogram.add(property.getAssessedValue()),
+                        Histogram::merge);
+    }
+
+    // Properties for the rows of a bitmap, in row order
+    public List<PropertyAssessment> select(Bitmap rows) {
+        List<PropertyAssessment> selected = new ArrayList<>(rows.cardinality());
+        rows.forEach(row -> selected.add(assessments.get(row)));
+        return selected;
+    }
+
+    public AssessmentStats getStats(Bitmap rows) {
+        return CalculateStatistics.computeStats(assessments, rows);
+    }
+
+    private void applyRow(PropertyAssessment incoming, Bitmap seen, int[] counts) {
+        int row = accountIndex.get(incoming.getAccountNumber());
+
+        // New account, or an account repeated within the new file
+        if (row == AccountIndex.NOT_FOUND || seen.get(row)) {
+            seen.set(assessments.size());
+            addAssessment(incoming);
+            counts[0]++;
+            return;
+        }
+
+        seen.set(row);
+        if (assessments.get(row).hasSameData(incoming)) {
+            counts[2]++;
+            return;
+        }
+
+        PropertyAssessment old = assessments.get(row);
+        unindexClasses(old, row);
+        removeFromNeighbourhood(old);
+        assessments.set(row, incoming);
+        indexClasses(incoming, row);
+        addToNeighbourhood(incoming);
+        spatialIndex = null;
+        valueIndex = null;
+        version++;
+        counts[1]++;
+    }
+
+    // Swap-remove: the last row takes over the removed row's position in every index
+    private void removeRow(int row) {
+        PropertyAssessment removed = assessments.get(row);
+        unindexClasses(removed, row);
+        removeFromNeighbourhood(removed);
+        if (accountIndex.get(removed.getAccountNumber()) == row) {
+            accountIndex.remove(removed.getAccountNumber());
+        }
+
+        int last = assessments.size() - 1;
+        if (row != last) {
+            PropertyAssessment moved = assessments.get(last);
+            unindexClasses(moved, last);
+            assessments.set(row, moved);
+            indexClasses(moved, row);
+            if (accountIndex.get(moved.getAccountNumber()) == last) {
+                accountIndex.put(moved.getAccountNumber(), row);
+            }
+        }
+        assessments.remove(last);
+        spatialIndex = null;
+        valueIndex = null;
+        version++;
+    }
+
+    private void addToNeighbourhood(PropertyAssessment assessment) {
+        // Neighbourhoods are keyed case-insensitively, but keep the name as first seen
+        String key = normalizeName(assessment.getNeighbourhood());
+        Neighbourhood neighbourhood = neighbourhoods.get(key);
+        if (neighbourhood == null) {
+            neighbourhood = new Neighbourhood(assessment.getNeighbourhood());
+            neighbourhoods.put(key, neighbourhood);
+            sortedNeighbourhoodKeys = null;
+        }
+        neighbourhood.addProperty(assessment);
+    }
+
+    private void removeFromNeighbourhood(PropertyAssessment assessment) {
+        String key = normalizeName(assessment.getNeighbourhood());
+        Neighbourhood neighbourhood = neighbourhoods.get(key);
+        if (neighbourhood == null) return;
+
+        neighbourhood.removeProperty(assessment);
+        if (neighbourhood.getCount() == 0) {
+            neighbourhoods.remove(key);
+            sortedNeighbourhoodKeys = null;
+        }
+    }
+
+    private void unindexClasses(PropertyAssessment assessment, int row) {
+        for (String assessmentClass : assessment.getAssessmentClasses()) {
+            Bitmap rows = classBitmaps.get(dictionaries.assessmentClasses.codeOf(assessmentClass));
+            if (rows != null) rows.clear(row);
+        }
+        mixedUse.clear(row);
+    }
+
+    private void indexClasses(PropertyAssessment assessment, int row) {
+        int classes = 0;
+        for (String assessmentClass : assessment.getAssessmentClasses()) {
+            if (assessmentClass == null || assessment.getAssessmentClassPercentage(assessmentClass) <= 0) continue;
+
+            int code = dictionaries.assessmentClasses.encode(assessmentClass);
+            Bitmap rows = classBitmaps.computeIfAbsent(code, _ -> new Bitmap());
+            if (!rows.get(row)) {
+                rows.set(row);
+                classes++;
+            }
+        }
+        if (classes > 1) {
+            mixedUse.set(row);
+        }
+    }
+
+    private String[] getSortedNeighbourhoodKeys() {
+        if (sortedNeighbourhoodKeys == null) {
+            sortedNeighbourhoodKeys = neighbourhoods.keySet().stream()
+                    .filter(key -> key != null)
+                    .sorted()
+                    .toArray(String[]::new);
+        }
+        return sortedNeighbourhoodKeys;
+    }
+
+    // Matches properties in the given ward, ignoring case and surrounding whitespace (a null ward matches nothing)
+    private static Predicate<PropertyAssessment> inWard(String ward) {
+        if (ward == null) return property -> false;
+
+        String target = ward.trim();
+        return property -> property.getWard() != null && target.equalsIgnoreCase(property.getWard().trim());
+    }
+
+    // Trimmed, case-folded form used as the neighbourhood map key
+    private static String normalizeName(String name) {
+        return name == null ? null : name.trim().toUpperCase(Locale.ROOT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+import java.util.Arrays;
+
+/**
+ * Approximate quantiles of a stream of values in bounded memory, using a
+ * KLL-style sketch. Values are kept in a stack of levels; when a level fills
+ * up it is sorted and every other value is promoted to the next level with
+ * twice the weight. Memory stays around 3k values however long the stream
+ * is, and the rank error is roughly 1.7/k (about 1% at the default k = 200).
+ * Until the first level first fills up every value is kept, so quantiles
+ * of small streams are exact.
+ */
+
+public class QuantileSketch {
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_K = 8;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    private static final double LEVEL_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private long[][] levels;
+    private int[] sizes;
+    private long count;
+    private long coin = 0x9E3779B97F4A7C15L; // xorshift state deciding which half of a level is promoted
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + MIN_K + ", got " + k);
+        }
+        this.k = k;
+        this.levels = new long[][]{new long[k]};
+        this.sizes = new int[1];
+    }
+
+    public void add(long value) {
+        append(0, value);
+        count++;
+        if (sizes[0] >= capacity(0)) compress();
+    }
+
+    // Fold another sketch into this one, the result is as accurate as the less accurate of the two
+    public void merge(QuantileSketch other) {
+        for (int level = 0; level < other.levels.length; level++) {
+            while (levels.length <= level) addLevel();
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        compress();
+    }
+
+    public long getCount() { return count; }
+
+    // Number of values actually held, which is what bounds the memory used
+    public int getRetained() {
+        int retained = 0;
+        for (int size : sizes) retained += size;
+        return retained;
+    }
+
+    // True while nothing has been compacted away, so every quantile is exact
+    public boolean isExact() { return levels.length == 1; }
+
+    // Value at fraction q (0 to 1) of the way through the sorted stream, or 0 if it's empty
+    public long quantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, got " + q);
+        }
+        if (count == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(q * count));
+        long[][] sorted = new long[levels.length][];
+        for (int level = 0; level < levels.length; level++) {
+            sorted[level] = Arrays.copyOf(levels[level], sizes[level]);
+            Arrays.sort(sorted[level]);
+        }
+
+        // Walk the levels in merged order, each value standing for 2^level inputs
+        int[] next = new int[levels.length];
+        long rank = 0;
+        long value = 0;
+        while (rank < target) {
+            int smallest = -1;
+            for (int level = 0; level < sorted.length; level++) {
+                if (next[level] < sorted[level].length
+                        && (smallest < 0 || sorted[level][next[level]] < sorted[smallest][next[smallest]])) {
+                    smallest = level;
+                }
+            }
+            if (smallest < 0) break;
+            value = sorted[smallest][next[smallest]++];
+            rank += 1L << smallest;
+        }
+        return value;
+    }
+
+    // Median in the same form as CalculateStatistics (mean of the middle two for an even count) while
+    // the sketch is exact, otherwise the approximate middle value
+    public long median() {
+        if (count == 0) return 0;
+        if (isExact()) {
+            return CalculateStatistics.calculateMedian(Arrays.copyOf(levels[0], sizes[0]), sizes[0]);
+        }
+        return quantile(0.5);
+    }
+
+    // Levels shrink geometrically below the top one, which always holds up to k values
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_DECAY, depth)));
+    }
+
+    private void compress() {
+        for (int level = 0; level < levels.length; level++) {
+            if (sizes[level] >= capacity(level)) compact(level);
+        }
+    }
+
+    // Sort the level and promote every other value (starting at a random offset) with doubled weight.
+    // An odd value out stays behind so the total weight is unchanged.
+    private void compact(int level) {
+        if (level + 1 == levels.length) addLevel();
+
+        long[] values = levels[level];
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+
+        int pairs = size / 2;
+        int offset = nextCoin() ? 1 : 0;
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, values[2 * i + offset]);
+        }
+        if (size % 2 != 0) {
+            values[0] = values[size - 1];
+        }
+        sizes[level] = size % 2;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        levels[levels.length - 1] = new long[MIN_LEVEL_CAPACITY];
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+    }
+
+    private void append(int level, long value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private boolean nextCoin() {
+        coin ^= coin << 13;
+        coin ^= coin >>> 7;
+        coin ^= coin << 17;
+        return (coin & 1) != 0;
+    }
+}
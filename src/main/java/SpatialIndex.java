@@ -0,0 +1,330 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform grid over property locations for bounding-box, radius and
+ * nearest-neighbour queries. Rows are bucketed by grid cell into flat
+ * primitive arrays (cell offsets, then row number, latitude, longitude and
+ * value in cell order), so a query only touches the cells it overlaps.
+ * Distances are great-circle (haversine) metres. The index is a snapshot of
+ * the list it was built from.
+ */
+
+public class SpatialIndex {
+    public static final double DEFAULT_CELL_METERS = 250;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+    private static final int MAX_CELLS = 1 << 22;
+
+    private final List<PropertyAssessment> properties;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double latitudeStep;
+    private final double longitudeStep;
+    private final int gridRows;
+    private final int gridColumns;
+    private final double minCellMeters; // Smallest cell side anywhere in the grid, bounds kNN searches
+
+    // CSR layout: entries for cell c are [cellStarts[c], cellStarts[c + 1])
+    private final int[] cellStarts;
+    private final int[] rows;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] values;
+
+    public SpatialIndex(List<PropertyAssessment> properties) {
+        this(properties, DEFAULT_CELL_METERS);
+    }
+
+    // Rows without a finite location are left out of the index
+    public SpatialIndex(List<PropertyAssessment> properties, double cellMeters) {
+        if (!(cellMeters > 0)) {
+            throw new IllegalArgumentException("cellMeters must be positive: " + cellMeters);
+        }
+        this.properties = List.copyOf(properties);
+
+        double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY, maxLon = Double.NEGATIVE_INFINITY;
+        int indexed = 0;
+        for (PropertyAssessment property : properties) {
+            Location location = property.getLocation();
+            if (!isIndexable(location)) continue;
+            minLat = Math.min(minLat, location.latitude());
+            maxLat = Math.max(maxLat, location.latitude());
+            minLon = Math.min(minLon, location.longitude());
+            maxLon = Math.max(maxLon, location.longitude());
+            indexed++;
+        }
+        if (indexed == 0) {
+            minLat = maxLat = minLon = maxLon = 0;
+        }
+
+        // Cells are roughly square at the middle latitude, made coarser if the grid would get too big
+        double latStep = cellMeters / METERS_PER_DEGREE;
+        double lonStep = latStep / Math.max(0.01, Math.cos(Math.toRadians((minLat + maxLat) / 2)));
+        double cells = ((maxLat - minLat) / latStep + 1) * ((maxLon - minLon) / lonStep + 1);
+        if (cells > MAX_CELLS) {
+            double scale = Math.sqrt(cells / MAX_CELLS);
+            latStep *= scale;
+            lonStep *= scale;
+        }
+
+        this.minLatitude = minLat;
+        this.minLongitude = minLon;
+        this.latitudeStep = latStep;
+        this.longitudeStep = lonStep;
+        this.gridRows = (int) ((maxLat - minLat) / latStep) + 1;
+        this.gridColumns = (int) ((maxLon - minLon) / lonStep) + 1;
+        double widestLatitude = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        this.minCellMeters = Math.min(latStep * METERS_PER_DEGREE,
+                lonStep * METERS_PER_DEGREE * Math.cos(Math.toRadians(Math.min(90, widestLatitude))));
+
+        // Counting sort of the rows by cell
+        this.cellStarts = new int[gridRows * gridColumns + 1];
+        int[] cellOf = new int[properties.size()];
+        for (int row = 0; row < properties.size(); row++) {
+            Location location = properties.get(row).getLocation();
+            if (isIndexable(location)) {
+                cellOf[row] = cellIndex(location.latitude(), location.longitude());
+                cellStarts[cellOf[row] + 1]++;
+            } else {
+                cellOf[row] = -1;
+            }
+        }
+        for (int cell = 0; cell < gridRows * gridColumns; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+
+        this.rows = new int[indexed];
+        this.latitudes = new double[indexed];
+        this.longitudes = new double[indexed];
+        this.values = new long[indexed];
+        int[] next = Arrays.copyOf(cellStarts, cellStarts.length - 1);
+        for (int row = 0; row < properties.size(); row++) {
+            if (cellOf[row] < 0) continue;
+            PropertyAssessment property = properties.get(row);
+            int slot = next[cellOf[row]]++;
+            rows[slot] = row;
+            latitudes[slot] = property.getLocation().latitude();
+            longitudes[slot] = property.getLocation().longitude();
+            values[slot] = property.getAssessedValue();
+        }
+    }
+
+    public int size() { return rows.length; }
+
+    // Rows inside the box (inclusive), as a bitmap that combines with the class bitmaps
+    public Bitmap rowsInBox(double minLat, double minLon, double maxLat, double maxLon) {
+        Bitmap result = new Bitmap();
+        forEachInBox(minLat, minLon, maxLat, maxLon, slot -> result.set(rows[slot]));
+        return result;
+    }
+
+    public List<PropertyAssessment> findInBox(double minLat, double minLon, double maxLat, double maxLon) {
+        Hits hits = new Hits();
+        forEachInBox(minLat, minLon, maxLat, maxLon, hits);
+        return hits.toProperties();
+    }
+
+    public AssessmentStats getBoxStats(double minLat, double minLon, double maxLat, double maxLon) {
+        Hits hits = new Hits();
+        forEachInBox(minLat, minLon, maxLat, maxLon, hits);
+        return hits.toStats();
+    }
+
+    // Rows within the given distance of a point
+    public Bitmap rowsWithinRadius(Location centre, double meters) {
+        Bitmap result = new Bitmap();
+        forEachWithinRadius(centre.latitude(), centre.longitude(), meters, slot -> result.set(rows[slot]));
+        return result;
+    }
+
+    public List<PropertyAssessment> findWithinRadius(Location centre, double meters) {
+        Hits hits = new Hits();
+        forEachWithinRadius(centre.latitude(), centre.longitude(), meters, hits);
+        return hits.toProperties();
+    }
+
+    public AssessmentStats getRadiusStats(Location centre, double meters) {
+        Hits hits = new Hits();
+        forEachWithinRadius(centre.latitude(), centre.longitude(), meters, hits);
+        return hits.toStats();
+    }
+
+    // The k closest properties to a point, nearest first. Searches rings of cells outwards
+    // and stops once no unvisited cell can be closer than the current k-th candidate.
+    public List<PropertyAssessment> findNearest(Location centre, int k) {
+        List<PropertyAssessment> nearest = new ArrayList<>();
+        if (k <= 0 || rows.length == 0) return nearest;
+
+        double latitude = centre.latitude();
+        double longitude = centre.longitude();
+        int centreRow = (int) Math.floor((latitude - minLatitude) / latitudeStep);
+        int centreColumn = (int) Math.floor((longitude - minLongitude) / longitudeStep);
+
+        // From outside the grid, start at the closest edge cell and skip the early exit
+        boolean inside = centreRow >= 0 && centreRow < gridRows && centreColumn >= 0 && centreColumn < gridColumns;
+        centreRow = Math.max(0, Math.min(gridRows - 1, centreRow));
+        centreColumn = Math.max(0, Math.min(gridColumns - 1, centreColumn));
+        int maxRing = Math.max(Math.max(centreRow, gridRows - 1 - centreRow),
+                Math.max(centreColumn, gridColumns - 1 - centreColumn));
+
+        // Bounded max-heap on distance (slot numbers plus their distances)
+        int[] heapSlots = new int[k];
+        double[] heapDistances = new double[k];
+        int heapSize = 0;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every point in this ring or beyond is at least (ring - 1) full cells away
+            if (inside && heapSize == k && (ring - 1) * minCellMeters > heapDistances[0]) break;
+
+            for (int gridRow = centreRow - ring; gridRow <= centreRow + ring; gridRow++) {
+                if (gridRow < 0 || gridRow >= gridRows) continue;
+                boolean edgeRow = gridRow == centreRow - ring || gridRow == centreRow + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int column = centreColumn - ring; column <= centreColumn + ring; column += Math.max(1, step)) {
+                    if (column < 0 || column >= gridColumns) continue;
+                    int cell = gridRow * gridColumns + column;
+                    for (int slot = cellStarts[cell]; slot < cellStarts[cell + 1]; slot++) {
+                        double distance = distanceMeters(latitude, longitude, latitudes[slot], longitudes[slot]);
+                        if (heapSize < k) {
+                            heapSlots[heapSize] = slot;
+                            heapDistances[heapSize] = distance;
+                            siftUp(heapSlots, heapDistances, heapSize++);
+                        } else if (distance < heapDistances[0]) {
+                            heapSlots[0] = slot;
+                            heapDistances[0] = distance;
+                            siftDown(heapSlots, heapDistances, heapSize);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Drain the heap farthest first, then reverse
+        while (heapSize > 0) {
+            nearest.add(properties.get(rows[heapSlots[0]]));
+            heapSize--;
+            heapSlots[0] = heapSlots[heapSize];
+            heapDistances[0] = heapDistances[heapSize];
+            siftDown(heapSlots, heapDistances, heapSize);
+        }
+        Collections.reverse(nearest);
+        return nearest;
+    }
+
+    // Great-circle distance between two points in metres
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void forEachInBox(double minLat, double minLon, double maxLat, double maxLon,
+                              IntConsumer action) {
+        int firstRow = Math.max(0, (int) Math.floor((minLat - minLatitude) / latitudeStep));
+        int lastRow = Math.min(gridRows - 1, (int) Math.floor((maxLat - minLatitude) / latitudeStep));
+        int firstColumn = Math.max(0, (int) Math.floor((minLon - minLongitude) / longitudeStep));
+        int lastColumn = Math.min(gridColumns - 1, (int) Math.floor((maxLon - minLongitude) / longitudeStep));
+
+        for (int gridRow = firstRow; gridRow <= lastRow; gridRow++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = gridRow * gridColumns + column;
+                for (int slot = cellStarts[cell]; slot < cellStarts[cell + 1]; slot++) {
+                    if (latitudes[slot] >= minLat && latitudes[slot] <= maxLat
+                            && longitudes[slot] >= minLon && longitudes[slot] <= maxLon) {
+                        action.accept(slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void forEachWithinRadius(double latitude, double longitude, double meters,
+                                     IntConsumer action) {
+        // Bounding box of the circle first, then the exact distance check
+        double latDelta = meters / METERS_PER_DEGREE;
+        double lonDelta = latDelta / Math.max(0.01, Math.cos(Math.toRadians(Math.min(89.9, Math.abs(latitude) + latDelta))));
+        forEachInBox(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta, slot -> {
+            if (distanceMeters(latitude, longitude, latitudes[slot], longitudes[slot]) <= meters) {
+                action.accept(slot);
+            }
+        });
+    }
+
+    private int cellIndex(double latitude, double longitude) {
+        int gridRow = Math.min(gridRows - 1, (int) ((latitude - minLatitude) / latitudeStep));
+        int column = Math.min(gridColumns - 1, (int) ((longitude - minLongitude) / longitudeStep));
+        return gridRow * gridColumns + column;
+    }
+
+    private static boolean isIndexable(Location location) {
+        return location != null && Double.isFinite(location.latitude()) && Double.isFinite(location.longitude());
+    }
+
+    private static void siftUp(int[] slots, double[] distances, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (distances[parent] >= distances[index]) return;
+            swap(slots, distances, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] slots, double[] distances, int size) {
+        int index = 0;
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && distances[left] > distances[largest]) largest = left;
+            if (right < size && distances[right] > distances[largest]) largest = right;
+            if (largest == index) return;
+            swap(slots, distances, largest, index);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] slots, double[] distances, int i, int j) {
+        int slot = slots[i];
+        slots[i] = slots[j];
+        slots[j] = slot;
+        double distance = distances[i];
+        distances[i] = distances[j];
+        distances[j] = distance;
+    }
+
+    // Slots matched by a query, grown as needed so the cost follows the number of hits
+    private class Hits implements IntConsumer {
+        private int[] slots = new int[64];
+        private int count;
+
+        @Override
+        public void accept(int slot) {
+            if (count == slots.length) slots = Arrays.copyOf(slots, count * 2);
+            slots[count++] = slot;
+        }
+
+        // Matching properties in row order
+        List<PropertyAssessment> toProperties() {
+            int[] matched = new int[count];
+            for (int i = 0; i < count; i++) matched[i] = rows[slots[i]];
+            Arrays.sort(matched);
+
+            List<PropertyAssessment> result = new ArrayList<>(count);
+            for (int row : matched) result.add(properties.get(row));
+            return result;
+        }
+
+        AssessmentStats toStats() {
+            long[] matched = new long[count];
+            for (int i = 0; i < count; i++) matched[i] = values[slots[i]];
+            return CalculateStatistics.computeStats(matched, count);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One-pass statistics straight from the CSV, without building any
+ * PropertyAssessment objects. Each row only updates running count, sum,
+ * min and max plus a QuantileSketch for the median, for the whole city and
+ * per neighbourhood, ward and assessment class, so memory depends on the
+ * number of groups rather than the number of rows. Several files (e.g.
+ * multiple years) can be fed into the same instance. Counts, extremes and
+ * means are exact; medians are exact for small groups and approximate
+ * beyond that.
+ */
+
+public class StreamingStatistics {
+    private final int sketchSize;
+    private final Summary city;
+    private final Map<String, Summary> neighbourhoods = new HashMap<>();
+    private final Map<String, Summary> wards = new HashMap<>();
+    private final Map<String, Summary> assessmentClasses = new HashMap<>();
+
+    public StreamingStatistics() {
+        this(QuantileSketch.DEFAULT_K);
+    }
+
+    // A larger sketch size gives more accurate medians at the cost of memory per group
+    public StreamingStatistics(int sketchSize) {
+        this.sketchSize = sketchSize;
+        this.city = new Summary("Edmonton", sketchSize);
+    }
+
+    public static StreamingStatistics read(Path... filePaths) throws IOException {
+        StreamingStatistics statistics = new StreamingStatistics();
+        for (Path filePath : filePaths) {
+            statistics.addFile(filePath);
+        }
+        return statistics;
+    }
+
+    // Stream every row of a file into the running statistics
+    public void addFile(Path filePath) throws IOException {
+        ParseCSV.readColumns(filePath, schema -> {
+            int value = schema.require(AssessmentColumns.ASSESSED_VALUE);
+            int neighbourhood = schema.require(AssessmentColumns.NEIGHBOURHOOD);
+            int ward = schema.require(AssessmentColumns.WARD);
+            int[] classes = schema.require(AssessmentColumns.CLASSES);
+            int[] percentages = schema.require(AssessmentColumns.CLASS_PERCENTAGES);
+            return row -> addRow(row, value, neighbourhood, ward, classes, percentages);
+        });
+    }
+
+    // City-wide statistics only. Just the assessed value column is read, and everything after it
+    // in each row is skipped by the tokenizer.
+    public static AssessmentStats readCityStats(Path... filePaths) throws IOException {
+        Summary city = new Summary("Edmonton", QuantileSketch.DEFAULT_K);
+        for (Path filePath : filePaths) {
+            ParseCSV.readColumns(filePath, schema -> {
+                int value = schema.require(AssessmentColumns.ASSESSED_VALUE);
+                return row -> city.add(row.getLong(value, 0));
+            });
+        }
+        return city.toStats();
+    }
+
+    // Fold in statistics gathered separately (e.g. from another file on another thread)
+    public void merge(StreamingStatistics other) {
+        city.merge(other.city);
+        mergeGroups(neighbourhoods, other.neighbourhoods);
+        mergeGroups(wards, other.wards);
+        mergeGroups(assessmentClasses, other.assessmentClasses);
+    }
+
+    // Same shape as PropertyAssessments.getCityStats. AssessmentStats counts are ints, so past
+    // Integer.MAX_VALUE rows the count is capped there (getRowCount has the exact figure); the
+    // other fields stay exact.
+    public AssessmentStats getCityStats() {
+        return city.toStats();
+    }
+
+    // Every row read so far, across all files
+    public long getRowCount() {
+        return city.totals.getCount();
+    }
+
+    // Lookups are case-insensitive, like PropertyAssessments, and unknown names give AssessmentStats.EMPTY
+    public AssessmentStats getNeighbourhoodStats(String name) {
+        return statsFor(neighbourhoods, name);
+    }
+
+    public AssessmentStats getWardStats(String name) {
+        return statsFor(wards, name);
+    }
+
+    public AssessmentStats getAssessmentClassStats(String name) {
+        return statsFor(assessmentClasses, name);
+    }
+
+    // Names as first seen in the data, sorted
+    public List<String> getNeighbourhoodNames() {
+        return namesOf(neighbourhoods);
+    }
+
+    public List<String> getWardNames() {
+        return namesOf(wards);
+    }
+
+    public List<String> getAssessmentClassNames() {
+        return namesOf(assessmentClasses);
+    }
+
+    private void addRow(CsvTokenizer row, int valueColumn, int neighbourhoodColumn, int wardColumn,
+                        int[] classColumns, int[] percentageColumns) {
+        long value = row.getLong(valueColumn, 0);
+        city.add(value);
+        addToGroup(neighbourhoods, row.getField(neighbourhoodColumn), value);
+        addToGroup(wards, row.getField(wardColumn), value);
+
+        // Like the class index, a property belongs to each class it has a positive share of
+        for (int i = 0; i < classColumns.length; i++) {
+            if (row.isEmpty(classColumns[i]) || row.isEmpty(percentageColumns[i])) continue;
+            String className = row.getField(classColumns[i]);
+            if (isRepeatedClass(row, classColumns, i, className)) continue;
+            if (row.getDouble(percentageColumns[i], 0.0) > 0) {
+                addToGroup(assessmentClasses, className, value);
+            }
+        }
+    }
+
+    private void addToGroup(Map<String, Summary> groups, String name, long value) {
+        String key = normalizeName(name);
+        if (key.isEmpty()) return;
+
+        Summary summary = groups.get(key);
+        if (summary == null) {
+            summary = new Summary(name.trim(), sketchSize);
+            groups.put(key, summary);
+        }
+        summary.add(value);
+    }
+
+    // A class listed twice on one row should only be counted once
+    private static boolean isRepeatedClass(CsvTokenizer row, int[] classColumns, int index, String className) {
+        for (int i = 0; i < index; i++) {
+            if (!row.isEmpty(classColumns[i]) && className.equalsIgnoreCase(row.getField(classColumns[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void mergeGroups(Map<String, Summary> groups, Map<String, Summary> others) {
+        for (Map.Entry<String, Summary> entry : others.entrySet()) {
+            Summary summary = groups.get(entry.getKey());
+            if (summary == null) {
+                summary = new Summary(entry.getValue().name, sketchSize);
+                groups.put(entry.getKey(), summary);
+            }
+            summary.merge(entry.getValue());
+        }
+    }
+
+    private static AssessmentStats statsFor(Map<String, Summary> groups, String name) {
+        if (name == null) return AssessmentStats.EMPTY;
+        Summary summary = groups.get(normalizeName(name));
+        return summary == null ? AssessmentStats.EMPTY : summary.toStats();
+    }
+
+    private static List<String> namesOf(Map<String, Summary> groups) {
+        List<String> names = new ArrayList<>();
+        for (Summary summary : groups.values()) {
+            names.add(summary.name);
+        }
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+        return names;
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Running totals and median sketch for one group of rows.
+     */
+    private static class Summary {
+        private final String name;
+        private final GroupStatistics.Accumulator totals = new GroupStatistics.Accumulator();
+        private final QuantileSketch sketch;
+
+        Summary(String name, int sketchSize) {
+            this.name = name;
+            this.sketch = new QuantileSketch(sketchSize);
+        }
+
+        void add(long value) {
+            totals.add(value);
+            sketch.add(value);
+        }
+
+        void merge(Summary other) {
+            totals.merge(other.totals);
+            sketch.merge(other.sketch);
+        }
+
+        AssessmentStats toStats() {
+            if (totals.getCount() == 0) return AssessmentStats.EMPTY;
+            return new AssessmentStats(
+                    (int) Math.min(totals.getCount(), Integer.MAX_VALUE),
+                    totals.getMin(),
+                    totals.getMax(),
+                    totals.getMax() - totals.getMin(),
+                    totals.getSum(),
+                    totals.getMean(),
+                    sketch.median()
+            );
+        }
+    }
+}
@@ -0,0 +1,37 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Main application for streaming statistics. Reads one or more CSV files
+ * in a single pass without loading the properties, then prints the
+ * city-wide, neighbourhood and assessment class reports.
+ */
+
+public class StreamingStatisticsMain {
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: StreamingStatisticsMain <csv file>...");
+            return;
+        }
+
+        Path[] filePaths = new Path[args.length];
+        for (int i = 0; i < args.length; i++) {
+            filePaths[i] = Path.of(args[i]);
+        }
+
+        try {
+            StreamingStatistics statistics = StreamingStatistics.read(filePaths);
+            PrintReport.printAllStats("Assessment of Edmonton Properties", statistics.getCityStats());
+            for (String hoodName : statistics.getNeighbourhoodNames()) {
+                System.out.println();
+                PrintReport.printHoodStats(hoodName, statistics.getNeighbourhoodStats(hoodName));
+            }
+            for (String className : statistics.getAssessmentClassNames()) {
+                System.out.println();
+                PrintReport.printClassStats(className, statistics.getAssessmentClassStats(className), false);
+            }
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dictionary encoding for repeated string values. Each distinct string is
+ * assigned a small integer code the first time it's seen, so columns can
+ * store an int per row instead of a String reference, and intern() hands
+ * back one shared instance per distinct value. A dictionary made with
+ * ignoringCase() codes values by their case-folded form, so spellings that
+ * differ only in case share a code. Safe to use from the parallel CSV reader.
+ */
+
+public class StringDictionary {
+    public static final int NO_CODE = -1;
+
+    private final boolean ignoreCase;
+    private final ConcurrentMap<String, Entry> entries; // Every spelling seen, with its shared instance and code
+    private final Map<String, Integer> codes; // By key (the folded form when ignoring case), guarded by this
+    private final List<String> values; // Keys in code order, guarded by this
+
+    public StringDictionary() {
+        this(false);
+    }
+
+    private StringDictionary(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.entries = new ConcurrentHashMap<>();
+        this.codes = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+    // A dictionary whose codes (and decoded values) are case-folded, while intern keeps each spelling
+    public static StringDictionary ignoringCase() {
+        return new StringDictionary(true);
+    }
+
+    // Get the code for a value, assigning the next free one if it's new (null maps to NO_CODE)
+    public int encode(String value) {
+        return value == null ? NO_CODE : entry(value).code;
+    }
+
+    // Canonical instance of a value, the first one seen (null stays null)
+    public String intern(String value) {
+        return value == null ? null : entry(value).value;
+    }
+
+    // Look up an existing code without adding the value
+    public int codeOf(String value) {
+        if (value == null) return NO_CODE;
+
+        Entry entry = entries.get(value);
+        if (entry != null) return entry.code;
+        return ignoreCase ? lookUp(fold(value)) : NO_CODE;
+    }
+
+    public synchronized String decode(int code) {
+        return code == NO_CODE ? null : values.get(code);
+    }
+
+    public synchronized int size() { return values.size(); }
+
+    // Values in code order, so encoding them again in sequence rebuilds the same codes
+    synchronized String[] toArray() {
+        return values.toArray(new String[0]);
+    }
+
+    private Entry entry(String value) {
+        Entry entry = entries.get(value);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(value, v -> new Entry(v, assignCode(ignoreCase ? fold(v) : v)));
+        }
+        return entry;
+    }
+
+    private synchronized int assignCode(String key) {
+        Integer code = codes.get(key);
+        if (code == null) {
+            code = values.size();
+            codes.put(key, code);
+            values.add(key);
+        }
+        return code;
+    }
+
+    private synchronized int lookUp(String key) {
+        return codes.getOrDefault(key, NO_CODE);
+    }
+
+    private static String fold(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    private record Entry(String value, int code) {}
+}
@@ -0,0 +1,17 @@
+/**
+ * Counts of what an incremental update changed, as returned by
+ * PropertyAssessments.applyUpdate.
+ */
+
+public record UpdateSummary(int inserted, int updated, int deleted, int unchanged) {
+
+    public boolean hasChanges() {
+        return inserted + updated + deleted > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d inserted, %,d updated, %,d deleted, %,d unchanged",
+                inserted, updated, deleted, unchanged);
+    }
+}
@@ -0,0 +1,169 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Properties ordered by assessed value, for range counts, rank lookups and
+ * top/bottom-N queries without sorting the collection each time. Each row
+ * is packed into one long (value offset in the high bits, row number in the
+ * low bits) so the whole index is built with a single Arrays.parallelSort
+ * over primitives, then unpacked into parallel value and row arrays. Ties
+ * are kept in row order. Like SpatialIndex, the index is a snapshot of the
+ * list it was built from.
+ */
+
+public class ValueIndex {
+    private final List<PropertyAssessment> properties;
+    private final long[] values; // Ascending
+    private final int[] rows; // rows[i] is the row holding values[i]
+
+    public ValueIndex(List<PropertyAssessment> properties) {
+        this.properties = List.copyOf(properties);
+        int count = properties.size();
+        this.values = new long[count];
+        this.rows = new int[count];
+        if (count == 0) return;
+
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for (int row = 0; row < count; row++) {
+            long value = properties.get(row).getAssessedValue();
+            values[row] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        int rowBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(count - 1));
+        if ((max - min) >>> (64 - rowBits) == 0) {
+            sortPacked(min, rowBits);
+        } else {
+            sortBoxed(); // Values spread too wide to share a long with the row number
+        }
+    }
+
+    public int size() { return values.length; }
+
+    // Number of properties valued below `value`, which is also where it would be inserted
+    public int rankOf(long value) {
+        return lowerBound(value);
+    }
+
+    // Percentile rank (0-100) of a value among all the properties, see CalculateStatistics.percentileRank
+    public double percentileRank(long value) {
+        return CalculateStatistics.percentileRank(values, values.length, value);
+    }
+
+    // Value of the property at a rank, 0 being the least valuable
+    public long valueAt(int rank) {
+        return values[rank];
+    }
+
+    // Properties valued in [min, max], both ends inclusive
+    public int countInRange(long min, long max) {
+        if (min > max) return 0;
+        return upperBound(max) - lowerBound(min);
+    }
+
+    // Rows valued in [min, max], least valuable first
+    public void forEachInRange(long min, long max, IntConsumer action) {
+        if (min > max) return;
+        int end = upperBound(max);
+        for (int i = lowerBound(min); i < end; i++) {
+            action.accept(rows[i]);
+        }
+    }
+
+    // As a bitmap that combines with the class and location bitmaps
+    public Bitmap rowsInRange(long min, long max) {
+        Bitmap result = new Bitmap();
+        forEachInRange(min, max, result::set);
+        return result;
+    }
+
+    public List<PropertyAssessment> findInRange(long min, long max) {
+        List<PropertyAssessment> result = new ArrayList<>(countInRange(min, max));
+        forEachInRange(min, max, row -> result.add(properties.get(row)));
+        return result;
+    }
+
+    public AssessmentStats getRangeStats(long min, long max) {
+        if (min > max) return AssessmentStats.EMPTY;
+        int start = lowerBound(min);
+        int end = upperBound(max);
+        return CalculateStatistics.computeStats(Arrays.copyOfRange(values, start, end), end - start);
+    }
+
+    // Percentiles straight from the sorted values, no copy or sort needed
+    public DistributionStats getDistribution() {
+        return CalculateStatistics.distributionOfSorted(values, values.length);
+    }
+
+    // The n most valuable properties, most valuable first
+    public List<PropertyAssessment> top(int n) {
+        return top(n, property -> true);
+    }
+
+    // The n most valuable properties that pass the filter (e.g. those in one ward), walking down
+    // from the top so only the rows above the n-th match are looked at
+    public List<PropertyAssessment> top(int n, Predicate<PropertyAssessment> filter) {
+        List<PropertyAssessment> result = new ArrayList<>(Math.min(Math.max(n, 0), values.length));
+        for (int i = values.length - 1; i >= 0 && result.size() < n; i--) {
+            PropertyAssessment property = properties.get(rows[i]);
+            if (filter.test(property)) result.add(property);
+        }
+        return result;
+    }
+
+    // The n least valuable properties, least valuable first
+    public List<PropertyAssessment> bottom(int n) {
+        return bottom(n, property -> true);
+    }
+
+    public List<PropertyAssessment> bottom(int n, Predicate<PropertyAssessment> filter) {
+        List<PropertyAssessment> result = new ArrayList<>(Math.min(Math.max(n, 0), values.length));
+        for (int i = 0; i < values.length && result.size() < n; i++) {
+            PropertyAssessment property = properties.get(rows[i]);
+            if (filter.test(property)) result.add(property);
+        }
+        return result;
+    }
+
+    private int lowerBound(long value) {
+        return CalculateStatistics.lowerBound(values, values.length, value);
+    }
+
+    private int upperBound(long value) {
+        return CalculateStatistics.upperBound(values, values.length, value);
+    }
+
+    // `values` holds the values in row order on entry. The sign bit is flipped so the signed sort
+    // orders the packed keys as unsigned numbers.
+    private void sortPacked(long min, int rowBits) {
+        long[] keys = new long[values.length];
+        for (int row = 0; row < keys.length; row++) {
+            keys[row] = ((values[row] - min) << rowBits | row) ^ Long.MIN_VALUE;
+        }
+        Arrays.parallelSort(keys);
+
+        long rowMask = (1L << rowBits) - 1;
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            rows[i] = (int) (key & rowMask);
+            values[i] = (key >>> rowBits) + min;
+        }
+    }
+
+    private void sortBoxed() {
+        long[] byRow = values.clone();
+        Integer[] order = new Integer[byRow.length];
+        for (int row = 0; row < order.length; row++) order[row] = row;
+        Arrays.parallelSort(order, Comparator.<Integer>comparingLong(row -> byRow[row]).thenComparingInt(row -> row));
+
+        for (int i = 0; i < order.length; i++) {
+            rows[i] = order[i];
+            values[i] = byRow[order[i]];
+        }
+    }
+}
@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AccountIndexTest {
+
+    @Test
+    @DisplayName("get should return the row for numeric account numbers")
+    public void testNumericAccountNumbers() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+        index.putIfAbsent("3925286", 0);
+        index.putIfAbsent("1194976", 1);
+
+        // Act & Assert
+        assertEquals(0, index.get("3925286"));
+        assertEquals(1, index.get("1194976"));
+        assertEquals(AccountIndex.NOT_FOUND, index.get("1034339"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Non-canonical account numbers should not collide with numeric ones")
+    public void testNonNumericAccountNumbers() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+        index.putIfAbsent("123", 0);
+        index.putIfAbsent("0123", 1);
+        index.putIfAbsent("A-123", 2);
+        index.putIfAbsent("", 3);
+
+        // Act & Assert
+        assertEquals(0, index.get("123"));
+        assertEquals(1, index.get("0123"));
+        assertEquals(2, index.get("A-123"));
+        assertEquals(3, index.get(""));
+        assertEquals(AccountIndex.NOT_FOUND, index.get("00123"));
+    }
+
+    @Test
+    @DisplayName("putIfAbsent should keep the first row for duplicate account numbers")
+    public void testDuplicatesKeepFirst() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+
+        // Act
+        index.putIfAbsent("1001", 0);
+        index.putIfAbsent("1001", 5);
+
+        // Assert
+        assertEquals(0, index.get("1001"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("null account numbers should be ignored")
+    public void testNullAccountNumber() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+
+        // Act
+        index.putIfAbsent(null, 0);
+
+        // Assert
+        assertEquals(AccountIndex.NOT_FOUND, index.get(null));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Index should keep every key after growing")
+    public void testResize() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            index.putIfAbsent(String.valueOf(1_000_000 + i * 7L), i);
+        }
+
+        // Assert
+        assertEquals(100_000, index.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, index.get(String.valueOf(1_000_000 + i * 7L)));
+        }
+    }
+
+    @Test
+    @DisplayName("put should replace the row of an existing account number")
+    public void testPutOverwrites() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+        index.putIfAbsent("1001", 0);
+        index.putIfAbsent("ABC", 1);
+
+        // Act
+        index.put("1001", 5);
+        index.put("ABC", 6);
+
+        // Assert
+        assertEquals(5, index.get("1001"));
+        assertEquals(6, index.get("ABC"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("remove should keep every other key reachable")
+    public void testRemove() {
+        // Arrange
+        AccountIndex index = new AccountIndex();
+        Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 5000; i++) {
+            String account = String.valueOf(1_000_000 + random.nextInt(8000));
+            index.putIfAbsent(account, i);
+            expected.putIfAbsent(account, i);
+        }
+
+        // Act
+        for (int i = 0; i < 3000; i++) {
+            String account = String.valueOf(1_000_000 + random.nextInt(8000));
+            index.remove(account);
+            expected.remove(account);
+        }
+        index.remove("0123");
+
+        // Assert
+        assertEquals(expected.size(), index.size());
+        for (int i = 0; i < 8000; i++) {
+            String account = String.valueOf(1_000_000 + i);
+            assertEquals(expected.getOrDefault(account, AccountIndex.NOT_FOUND), index.get(account), account);
+        }
+    }
+}
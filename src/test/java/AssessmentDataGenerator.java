@@ -0,0 +1,193 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Writes synthetic property assessment CSVs in the same 18-column layout as
+ * the real data, for benchmarks and scale tests. Output is fully determined
+ * by the seed and row count. Neighbourhood sizes follow a Zipf-like skew,
+ * properties cluster around their neighbourhood's centre, and assessed values
+ * are log-normal per assessment class. Rows are streamed straight to disk, so
+ * memory use stays constant however large the file gets.
+ *
+ * Usage: AssessmentDataGenerator output.csv rows [seed]
+ */
+
+public class AssessmentDataGenerator {
+    static final String HEADER = "Account Number,Suite,House Number,Street Name,Garage,Neighbourhood ID,"
+            + "Neighbourhood,Ward,Assessed Value,Latitude,Longitude,Point Location,"
+            + "Assessment Class % 1,Assessment Class % 2,Assessment Class % 3,"
+            + "Assessment Class 1,Assessment Class 2,Assessment Class 3";
+
+    static final int NEIGHBOURHOODS = 400;
+    static final String[] WARDS = {
+            "Anirniq Ward", "Dene Ward", "Ipiihkoohkanipiaohtsi Ward", "Karhiio Ward",
+            "Métis Ward", "Nakota Isga Ward", "O-day'min Ward", "papastew Ward",
+            "pihêsiwin Ward", "sipiwiyiniwak Ward", "Sspomitapi Ward", "tastawiyiniwak Ward"
+    };
+
+    private static final String[] NAME_STARTS = {
+            "GLEN", "WEST", "OAK", "RIVER", "MEADOW", "SILVER", "CASTLE", "LAKE",
+            "SPRUCE", "KING", "ASPEN", "MILL", "STONE", "HIGH", "BELL", "CRYSTAL"
+    };
+    private static final String[] NAME_ENDS = {
+            "VIEW", "WOOD", " PARK", "DOWNS", "RIDGE", "BROOK", " HEIGHTS", " ESTATES",
+            " POINT", " TERRACE", "GATE", "FIELD", "DALE", "MOUNT", "HAVEN"
+    };
+    private static final String[] STREET_TYPES = {" STREET NW", " AVENUE NW", " STREET SW", " AVENUE SW", " ROAD NW"};
+
+    private static final String RESIDENTIAL = "RESIDENTIAL";
+    private static final String COMMERCIAL = "COMMERCIAL";
+    private static final String OTHER_RESIDENTIAL = "OTHER RESIDENTIAL";
+    private static final String FARMLAND = "FARMLAND";
+
+    private final Random random;
+    private final double[] cumulativeWeights = new double[NEIGHBOURHOODS];
+    private final double[] centreLatitudes = new double[NEIGHBOURHOODS];
+    private final double[] centreLongitudes = new double[NEIGHBOURHOODS];
+    private final double[] valueFactors = new double[NEIGHBOURHOODS];
+    private final double[] commercialShares = new double[NEIGHBOURHOODS];
+
+    public AssessmentDataGenerator(long seed) {
+        this.random = new Random(seed);
+
+        // Neighbourhood i gets weight 1 / (i + 1)^0.9, so a few are large and most are small
+        double total = 0;
+        for (int i = 0; i < NEIGHBOURHOODS; i++) {
+            total += 1.0 / Math.pow(i + 1, 0.9);
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < NEIGHBOURHOODS; i++) {
+            cumulativeWeights[i] /= total;
+            centreLatitudes[i] = 53.42 + random.nextDouble() * 0.26;
+            centreLongitudes[i] = -113.68 + random.nextDouble() * 0.40;
+            valueFactors[i] = Math.exp(random.nextGaussian() * 0.35);
+            commercialShares[i] = 0.01 + random.nextDouble() * random.nextDouble() * 0.4;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: AssessmentDataGenerator output.csv rows [seed]");
+            System.exit(2);
+        }
+        Path output = Path.of(args[0]);
+        long rows = Long.parseLong(args[1].replace("_", ""));
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        long start = System.nanoTime();
+        new AssessmentDataGenerator(seed).writeCsv(output, rows);
+        System.out.printf("Wrote %,d rows (%,d bytes) to %s in %.1f s%n",
+                rows, Files.size(output), output, (System.nanoTime() - start) / 1e9);
+    }
+
+    // Write a header plus the given number of data rows
+    public void writeCsv(Path filePath, long rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            writeCsv(writer, rows);
+        }
+    }
+
+    public void writeCsv(Appendable out, long rows) throws IOException {
+        out.append(HEADER).append('\n');
+        StringBuilder line = new StringBuilder(256);
+        for (long i = 0; i < rows; i++) {
+            line.setLength(0);
+            appendRow(line, i);
+            out.append(line).append('\n');
+        }
+    }
+
+    // Account numbers are 1000000 + row, so callers can pick existing ones without reading the file
+    static String accountNumber(long row) {
+        return String.valueOf(1_000_000 + row);
+    }
+
+    static String neighbourhoodName(int index) {
+        int combinations = NAME_STARTS.length * NAME_ENDS.length;
+        String name = NAME_STARTS[index % NAME_STARTS.length] + NAME_ENDS[(index / NAME_STARTS.length) % NAME_ENDS.length];
+        return index < combinations ? name : name + " " + (index / combinations + 1);
+    }
+
+    static String wardName(int neighbourhood) {
+        return WARDS[neighbourhood % WARDS.length];
+    }
+
+    private void appendRow(StringBuilder line, long row) {
+        int hood = pickNeighbourhood();
+        String primary = pickClass(hood);
+        boolean residential = primary.equals(RESIDENTIAL) || primary.equals(OTHER_RESIDENTIAL);
+
+        // Address: commercial lots and farmland often have no house number, condos have suites
+        line.append(accountNumber(row)).append(',');
+        if (residential && random.nextInt(8) == 0) line.append(1 + random.nextInt(1200));
+        line.append(',');
+        if (residential || random.nextInt(3) > 0) line.append(1000 + random.nextInt(19000));
+        line.append(',');
+        line.append(10 + random.nextInt(200));
+        if (random.nextInt(6) == 0) line.append((char) ('A' + random.nextInt(4)));
+        line.append(STREET_TYPES[random.nextInt(STREET_TYPES.length)]).append(',');
+        line.append(residential && random.nextInt(10) < 7 ? 'Y' : 'N').append(',');
+
+        line.append(1000 + hood).append(',')
+                .append(neighbourhoodName(hood)).append(',')
+                .append(wardName(hood)).append(',')
+                .append(assessedValue(hood, primary)).append(',');
+
+        double latitude = centreLatitudes[hood] + random.nextGaussian() * 0.006;
+        double longitude = centreLongitudes[hood] + random.nextGaussian() * 0.009;
+        line.append(latitude).append(',').append(longitude)
+                .append(",POINT (").append(longitude).append(' ').append(latitude).append("),");
+
+        if (random.nextInt(25) == 0) {
+            // Mixed use split between two classes
+            int share = 5 * (2 + random.nextInt(17));
+            String secondary = primary.equals(COMMERCIAL) ? RESIDENTIAL : COMMERCIAL;
+            line.append(share).append(',').append(100 - share).append(",,")
+                    .append(primary).append(',').append(secondary).append(',');
+        } else {
+            line.append("100,,,").append(primary).append(",,");
+        }
+    }
+
+    private int pickNeighbourhood() {
+        double target = random.nextDouble();
+        int low = 0;
+        int high = NEIGHBOURHOODS - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] < target) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private String pickClass(int hood) {
+        double r = random.nextDouble();
+        if (r < commercialShares[hood]) return COMMERCIAL;
+        r -= commercialShares[hood];
+        if (r < 0.08) return OTHER_RESIDENTIAL;
+        if (r < 0.09) return FARMLAND;
+        return RESIDENTIAL;
+    }
+
+    // Log-normal around a per-class median, scaled by the neighbourhood and rounded to $500.
+    // A small share of parcels are assessed at zero, like in the real data.
+    private long assessedValue(int hood, String assessmentClass) {
+        if (random.nextInt(200) == 0) return 0;
+
+        double median;
+        double spread;
+        switch (assessmentClass) {
+            case COMMERCIAL -> { median = 1_200_000; spread = 1.2; }
+            case OTHER_RESIDENTIAL -> { median = 2_000_000; spread = 1.0; }
+            case FARMLAND -> { median = 300_000; spread = 0.8; }
+            default -> { median = 400_000; spread = 0.45; }
+        }
+        double value = median * valueFactors[hood] * Math.exp(random.nextGaussian() * spread);
+        return Math.max(500, Math.round(value / 500) * 500);
+    }
+}
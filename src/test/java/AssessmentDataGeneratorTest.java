@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssessmentDataGeneratorTest {
+
+    @Test
+    @DisplayName("Same seed should produce identical output, different seeds different output")
+    public void testDeterministic() throws IOException {
+        // Act
+        String first = generate(2000, 7);
+        String second = generate(2000, 7);
+        String other = generate(2000, 8);
+
+        // Assert
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    @DisplayName("Generated rows should parse into valid property assessments")
+    public void testParsesWithExistingLayout() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("generated", ".csv");
+        try {
+            new AssessmentDataGenerator(1).writeCsv(file, 5000);
+
+            // Act
+            String[][] data = ParseCSV.readData(file);
+
+            // Assert
+            assertEquals(5000, data.length);
+            for (String[] row : data) {
+                assertEquals(18, row.length, "Every row should have the 18 columns");
+                PropertyAssessment property = new PropertyAssessment(row);
+                assertTrue(property.getAssessedValue() >= 0);
+                assertFalse(property.getNeighbourhood().isEmpty());
+                assertTrue(property.getAssessmentClassPercentage(property.getAssessmentClasses()[0]) > 0);
+                assertTrue(property.getLocation().latitude() > 53 && property.getLocation().latitude() < 54);
+            }
+            assertEquals(AssessmentDataGenerator.accountNumber(0), data[0][0]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Neighbourhood sizes and values should be skewed")
+    public void testSkew() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("generated", ".csv");
+        try {
+            new AssessmentDataGenerator(3).writeCsv(file, 20000);
+
+            // Act
+            PropertyAssessments assessments = PropertyAssessments.loadCsv(file, 4);
+            List<Integer> sizes = new ArrayList<>();
+            for (int i = 0; i < AssessmentDataGenerator.NEIGHBOURHOODS; i++) {
+                Neighbourhood hood = assessments.getNeighbourhood(AssessmentDataGenerator.neighbourhoodName(i));
+                sizes.add(hood == null ? 0 : hood.getProperties().size());
+            }
+            sizes.sort(Comparator.reverseOrder());
+            Map<String, Object> stats = assessments.getCityStatistics();
+
+            // Assert
+            assertTrue(sizes.get(0) > 10 * sizes.get(sizes.size() / 2),
+                    "Largest neighbourhood should dwarf the median one");
+            assertTrue((double) stats.get("mean") > (long) stats.get("median"),
+                    "Values should have a long right tail");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Neighbourhood names should be unique")
+    public void testNeighbourhoodNamesUnique() {
+        // Act
+        long distinct = java.util.stream.IntStream.range(0, AssessmentDataGenerator.NEIGHBOURHOODS)
+                .mapToObj(AssessmentDataGenerator::neighbourhoodName)
+                .distinct()
+                .count();
+
+        // Assert
+        assertEquals(AssessmentDataGenerator.NEIGHBOURHOODS, distinct);
+    }
+
+    // Helper method
+    private String generate(int rows, long seed) throws IOException {
+        StringBuilder out = new StringBuilder();
+        new AssessmentDataGenerator(seed).writeCsv(out, rows);
+        return out.toString();
+    }
+}
@@ -0,0 +1,183 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssessmentSnapshotTest {
+
+    private Path directory;
+    private Path csv;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("snapshot-test");
+        csv = directory.resolve("data.csv");
+        new AssessmentDataGenerator(11).writeCsv(csv, 3000);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A snapshot should reload exactly what was parsed from the CSV")
+    public void testRoundTrip() throws IOException {
+        // Arrange
+        PropertyAssessments parsed = PropertyAssessments.loadCsv(csv, 1);
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+
+        // Act
+        parsed.writeSnapshot(snapshot, csv);
+        PropertyAssessments restored = AssessmentSnapshot.read(snapshot);
+
+        // Assert
+        List<PropertyAssessment> expected = parsed.getAssessments();
+        List<PropertyAssessment> actual = restored.getAssessments();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            PropertyAssessment want = expected.get(i);
+            PropertyAssessment got = actual.get(i);
+            assertEquals(want.getAccountNumber(), got.getAccountNumber());
+            assertEquals(want.getAddress().toString(), got.getAddress().toString());
+            assertEquals(want.getNeighbourhood(), got.getNeighbourhood());
+            assertEquals(want.getWard(), got.getWard());
+            assertEquals(want.getGarage(), got.getGarage());
+            assertEquals(want.getAssessedValue(), got.getAssessedValue());
+            assertEquals(want.getLocation(), got.getLocation());
+            assertArrayEquals(want.getAssessmentClasses(), got.getAssessmentClasses());
+            assertArrayEquals(want.getAssessmentClassPercentages(), got.getAssessmentClassPercentages());
+        }
+        assertEquals(parsed.getCityStatistics(), restored.getCityStatistics());
+    }
+
+    @Test
+    @DisplayName("load should never write a snapshot, refresh should write one only when it's missing or stale")
+    public void testRefreshWritesSnapshot() throws IOException {
+        // Arrange
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+
+        // Act
+        PropertyAssessments first = PropertyAssessments.load(csv, 2);
+        boolean existedAfterLoad = Files.exists(snapshot);
+        boolean written = AssessmentSnapshot.refresh(first, csv);
+        boolean writtenAgain = AssessmentSnapshot.refresh(first, csv);
+
+        // Assert
+        assertFalse(existedAfterLoad);
+        assertTrue(written);
+        assertFalse(writtenAgain, "A fresh snapshot should be left alone");
+        assertTrue(AssessmentSnapshot.isFresh(snapshot, csv));
+        PropertyAssessments second = PropertyAssessments.load(csv, 2);
+        assertEquals(first.getCityStatistics(), second.getCityStatistics());
+    }
+
+    @Test
+    @DisplayName("refresh should report a snapshot it can't write")
+    public void testRefreshFailure() throws IOException {
+        // Arrange: a directory where the snapshot should go can't be replaced by a file
+        PropertyAssessments assessments = PropertyAssessments.loadCsv(csv, 1);
+        Files.createDirectory(AssessmentSnapshot.snapshotPathFor(csv));
+        Files.createFile(AssessmentSnapshot.snapshotPathFor(csv).resolve("blocker"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> AssessmentSnapshot.refresh(assessments, csv));
+        assertFalse(Files.exists(directory.resolve("data.csv.snapshot.tmp")), "The partial file should be removed");
+    }
+
+    @Test
+    @DisplayName("A snapshot should go stale when the CSV changes")
+    public void testStaleSnapshot() throws IOException {
+        // Arrange
+        PropertyAssessments original = PropertyAssessments.loadCsv(csv, 1);
+        AssessmentSnapshot.refresh(original, csv);
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+
+        // Act
+        new AssessmentDataGenerator(12).writeCsv(csv, 10);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 5000));
+
+        // Assert
+        assertFalse(AssessmentSnapshot.isFresh(snapshot, csv));
+        PropertyAssessments reloaded = PropertyAssessments.load(csv, 1);
+        assertEquals(10, reloaded.getAssessments().size(), "Should fall back to the CSV");
+        assertTrue(AssessmentSnapshot.refresh(reloaded, csv), "Snapshot should be rebuilt");
+        assertTrue(AssessmentSnapshot.isFresh(snapshot, csv));
+    }
+
+    @Test
+    @DisplayName("A snapshot should go stale when the CSV's contents change but its size and timestamp don't")
+    public void testStaleSnapshotSameSizeAndTime() throws IOException {
+        // Arrange
+        AssessmentSnapshot.refresh(PropertyAssessments.loadCsv(csv, 1), csv);
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+        FileTime modified = Files.getLastModifiedTime(csv);
+        byte[] bytes = Files.readAllBytes(csv);
+
+        // Act: swap two digits somewhere past the header
+        int digit = bytes.length / 2;
+        while (!Character.isDigit(bytes[digit]) || bytes[digit] == bytes[digit + 1]
+                || !Character.isDigit(bytes[digit + 1])) {
+            digit++;
+        }
+        byte swapped = bytes[digit];
+        bytes[digit] = bytes[digit + 1];
+        bytes[digit + 1] = swapped;
+        Files.write(csv, bytes);
+        Files.setLastModifiedTime(csv, modified);
+
+        // Assert
+        assertFalse(AssessmentSnapshot.isFresh(snapshot, csv));
+    }
+
+    @Test
+    @DisplayName("A damaged payload should be rejected in favour of the CSV and rewritten by refresh")
+    public void testCorruptSnapshot() throws IOException {
+        // Arrange
+        PropertyAssessments expected = PropertyAssessments.loadCsv(csv, 1);
+        AssessmentSnapshot.refresh(expected, csv);
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer oneByte = ByteBuffer.allocate(1);
+            channel.read(oneByte, 500);
+            oneByte.put(0, (byte) (oneByte.get(0) ^ 0xFF));
+            oneByte.rewind();
+            channel.write(oneByte, 500);
+        }
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> AssessmentSnapshot.read(snapshot));
+        assertEquals(expected.getCityStatistics(), PropertyAssessments.load(csv, 1).getCityStatistics());
+        assertTrue(AssessmentSnapshot.refresh(expected, csv), "A damaged snapshot should be rewritten");
+        assertNotNull(AssessmentSnapshot.read(snapshot));
+    }
+
+    @Test
+    @DisplayName("A file that isn't a snapshot should never count as fresh")
+    public void testNotASnapshot() throws IOException {
+        // Arrange
+        Path snapshot = AssessmentSnapshot.snapshotPathFor(csv);
+        Files.copy(csv, snapshot);
+
+        // Act & Assert
+        assertFalse(AssessmentSnapshot.isFresh(snapshot, csv));
+        assertThrows(IOException.class, () -> AssessmentSnapshot.read(snapshot));
+    }
+}
@@ -0,0 +1,72 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssessmentStatsTest {
+
+    @Test
+    @DisplayName("toMap should produce the full calculateAllStats map")
+    public void testToMap() {
+        // Arrange
+        AssessmentStats stats = new AssessmentStats(3, 300000L, 700000L, 400000L, 1500000L, 500000.0, 500000L);
+
+        // Act
+        Map<String, Object> map = stats.toMap();
+
+        // Assert
+        assertEquals(6, map.size());
+        assertEquals(3, map.get("count"));
+        assertEquals(300000L, map.get("min"));
+        assertEquals(700000L, map.get("max"));
+        assertEquals(400000L, map.get("range"));
+        assertEquals(500000.0, map.get("mean"));
+        assertEquals(500000L, map.get("median"));
+    }
+
+    @Test
+    @DisplayName("toSummaryMap should only contain count, mean and median")
+    public void testToSummaryMap() {
+        // Arrange
+        AssessmentStats stats = new AssessmentStats(2, 700000L, 800000L, 100000L, 1500000L, 750000.0, 750000L);
+
+        // Act
+        Map<String, Object> map = stats.toSummaryMap();
+
+        // Assert
+        assertEquals(Map.of("count", 2, "mean", 750000.0, "median", 750000L), map);
+    }
+
+    @Test
+    @DisplayName("EMPTY should map to the same zeroed map as an empty collection")
+    public void testEmpty() {
+        // Act & Assert
+        assertTrue(AssessmentStats.EMPTY.isEmpty());
+        assertEquals(CalculateStatistics.calculateAllStats(List.of()), AssessmentStats.EMPTY.toMap());
+    }
+
+    @Test
+    @DisplayName("fromMap should read a stats map and default missing values to zero")
+    public void testFromMap() {
+        // Arrange
+        Map<String, Object> map = new HashMap<>();
+        map.put("count", 4);
+        map.put("mean", 250.0);
+        map.put("median", 200L);
+
+        // Act
+        AssessmentStats stats = AssessmentStats.fromMap(map);
+
+        // Assert
+        assertEquals(4, stats.count());
+        assertEquals(250.0, stats.mean());
+        assertEquals(200L, stats.median());
+        assertEquals(1000L, stats.sum());
+        assertEquals(0L, stats.min());
+        assertEquals(0L, stats.range());
+    }
+}
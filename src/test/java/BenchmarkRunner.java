@@ -0,0 +1,93 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal benchmark harness: runs each task for a few warm-up rounds, then
+ * times the measured rounds and reports the median cost per operation.
+ * Results can be written to a CSV and compared against an earlier run so a
+ * slowdown beyond the tolerance fails the run.
+ */
+
+public class BenchmarkRunner {
+    // A piece of work to time; its result is consumed so the JIT can't discard it
+    public interface Task {
+        Object run() throws Exception;
+    }
+
+    private final int warmupRounds;
+    private final int measuredRounds;
+    private final String filter;
+    private final Map<String, Double> results = new LinkedHashMap<>();
+    private int sink;
+
+    public BenchmarkRunner(int warmupRounds, int measuredRounds, String filter) {
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+        this.filter = filter;
+    }
+
+    // Time a task that performs `operations` operations per call
+    public void run(String name, int operations, Task task) throws Exception {
+        if (filter != null && !name.contains(filter)) return;
+
+        for (int i = 0; i < warmupRounds; i++) {
+            consume(task.run());
+        }
+
+        long[] times = new long[measuredRounds];
+        for (int i = 0; i < measuredRounds; i++) {
+            long start = System.nanoTime();
+            consume(task.run());
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+
+        double nanosPerOp = (double) times[measuredRounds / 2] / operations;
+        results.put(name, nanosPerOp);
+        System.out.printf("%-50s %,16.1f ns/op%n", name, nanosPerOp);
+    }
+
+    public Map<String, Double> getResults() { return results; }
+
+    // Write name,ns/op lines that a later run can use as its baseline
+    public void writeResults(Path filePath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+            for (Map.Entry<String, Double> entry : results.entrySet()) {
+                writer.write(entry.getKey() + "," + entry.getValue());
+                writer.newLine();
+            }
+        }
+    }
+
+    // Compare against a baseline file, printing every benchmark that got slower than allowed.
+    // Returns the number of regressions found.
+    public int compareWithBaseline(Path baselinePath, double tolerance) throws IOException {
+        int regressions = 0;
+        List<String> lines = Files.readAllLines(baselinePath);
+        for (String line : lines) {
+            int comma = line.lastIndexOf(',');
+            if (comma < 0) continue;
+
+            String name = line.substring(0, comma);
+            Double current = results.get(name);
+            if (current == null) continue;
+
+            double baseline = Double.parseDouble(line.substring(comma + 1));
+            if (current > baseline * (1 + tolerance)) {
+                System.out.printf("REGRESSION %s: %,.1f ns/op (baseline %,.1f)%n", name, current, baseline);
+                regressions++;
+            }
+        }
+        return regressions;
+    }
+
+    private void consume(Object result) {
+        sink += System.identityHashCode(result);
+    }
+}
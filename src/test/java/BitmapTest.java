@@ -0,0 +1,117 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitmapTest {
+
+    @Test
+    @DisplayName("set, get and clear should track individual rows and grow as needed")
+    public void testSetGetClear() {
+        // Arrange
+        Bitmap bitmap = new Bitmap();
+
+        // Act
+        bitmap.set(3);
+        bitmap.set(64);
+        bitmap.set(100_000);
+        bitmap.clear(64);
+
+        // Assert
+        assertTrue(bitmap.get(3));
+        assertFalse(bitmap.get(64));
+        assertTrue(bitmap.get(100_000));
+        assertFalse(bitmap.get(1_000_000));
+        assertEquals(2, bitmap.cardinality());
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmap.set(-1));
+    }
+
+    @Test
+    @DisplayName("Iteration should visit set rows in ascending order")
+    public void testIteration() {
+        // Arrange
+        Bitmap bitmap = bitmapOf(0, 63, 64, 127, 500);
+
+        // Act
+        List<Integer> visited = new ArrayList<>();
+        bitmap.forEach(visited::add);
+        List<Integer> stepped = new ArrayList<>();
+        for (int row = bitmap.nextSetBit(0); row >= 0; row = bitmap.nextSetBit(row + 1)) {
+            stepped.add(row);
+        }
+
+        // Assert
+        assertEquals(List.of(0, 63, 64, 127, 500), visited);
+        assertEquals(visited, stepped);
+        assertEquals(-1, bitmap.nextSetBit(501));
+        assertEquals("{0, 63, 64, 127, 500}", bitmap.toString());
+    }
+
+    @Test
+    @DisplayName("and, or and andNot should match java.util.BitSet on random data")
+    public void testSetOperations() {
+        // Arrange
+        Random random = new Random(5);
+        Bitmap a = new Bitmap();
+        Bitmap b = new Bitmap();
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        for (int i = 0; i < 2000; i++) {
+            int row = random.nextInt(10_000);
+            a.set(row);
+            expectedA.set(row);
+            row = random.nextInt(5_000);
+            b.set(row);
+            expectedB.set(row);
+        }
+
+        // Act & Assert
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        assertEquals(toBitmap(and), a.and(b));
+
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        assertEquals(toBitmap(or), a.or(b));
+
+        BitSet andNot = (BitSet) expectedA.clone();
+        andNot.andNot(expectedB);
+        assertEquals(toBitmap(andNot), a.andNot(b));
+        assertEquals(andNot.cardinality(), a.andNot(b).cardinality());
+    }
+
+    @Test
+    @DisplayName("Operations and copies should not modify their inputs")
+    public void testImmutableOperands() {
+        // Arrange
+        Bitmap a = bitmapOf(1, 2, 3);
+        Bitmap b = bitmapOf(2);
+
+        // Act
+        a.andNot(b);
+        Bitmap copy = a.copy();
+        copy.clear(1);
+
+        // Assert
+        assertEquals(bitmapOf(1, 2, 3), a);
+        assertEquals(bitmapOf(2), b);
+        assertEquals(bitmapOf(1, 2, 3).hashCode(), a.hashCode());
+        assertTrue(new Bitmap().isEmpty());
+    }
+
+    // Helper methods
+    private Bitmap bitmapOf(int... rows) {
+        Bitmap bitmap = new Bitmap();
+        for (int row : rows) bitmap.set(row);
+        return bitmap;
+    }
+
+    private Bitmap toBitmap(BitSet bits) {
+        return bitmapOf(bits.stream().toArray());
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -230,6 +231,185 @@ public class CalculateStatisticsTest {
         assertEquals(300000L, (Long)stats.get("median"));
     }
 
+    @Test
+    @DisplayName("Test calculateValueStats on a raw value array")
+    public void testCalculateValueStats() {
+        // Act
+        Map<String, Object> stats = CalculateStatistics.calculateValueStats(new long[]{700000, 300000, 500000, 100000});
+
+        // Assert
+        assertEquals(4, stats.get("count"));
+        assertEquals(100000L, stats.get("min"));
+        assertEquals(700000L, stats.get("max"));
+        assertEquals(600000L, stats.get("range"));
+        assertEquals(400000.0, (Double) stats.get("mean"), 0.01);
+        assertEquals(400000L, stats.get("median")); // (300000 + 500000) / 2
+    }
+
+    @Test
+    @DisplayName("Test select finds the k-th smallest value and partitions around it")
+    public void testSelect() {
+        // Arrange
+        Random random = new Random(7);
+        for (int length = 1; length < 200; length++) {
+            long[] values = new long[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = random.nextInt(20); // Plenty of duplicates
+            }
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int k = random.nextInt(length);
+
+            // Act
+            long selected = CalculateStatistics.select(values, length, k);
+
+            // Assert
+            assertEquals(sorted[k], selected);
+            for (int i = 0; i < length; i++) {
+                assertTrue(i < k ? values[i] <= selected : values[i] >= selected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test statistics match the previous sort-based results exactly")
+    public void testStatsMatchSortBasedReference() {
+        // Arrange
+        Random random = new Random(42);
+        for (int size : new int[]{1, 2, 3, 10, 11, 1000, 1001, 50000}) {
+            List<PropertyAssessment> sample = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                long value = random.nextInt(4) == 0 ? 0 : 50_000 + random.nextInt(2_000_000);
+                sample.add(createProperty(String.valueOf(i), value, "Residential", 100.0));
+            }
+
+            List<Long> sorted = sample.stream().map(PropertyAssessment::getAssessedValue).sorted().toList();
+            long expectedMedian = size % 2 == 0
+                    ? (sorted.get(size / 2) + sorted.get(size / 2 - 1)) / 2
+                    : sorted.get(size / 2);
+            double expectedMean = sorted.stream().mapToLong(v -> v).average().orElse(0.0);
+
+            // Act
+            Map<String, Object> allStats = CalculateStatistics.calculateAllStats(sample);
+            Map<String, Object> hoodStats = CalculateStatistics.calculateNeighbourhoodStats(sample);
+
+            // Assert
+            assertEquals(size, allStats.get("count"));
+            assertEquals(sorted.getFirst(), allStats.get("min"));
+            assertEquals(sorted.getLast(), allStats.get("max"));
+            assertEquals(expectedMean, allStats.get("mean"));
+            assertEquals(expectedMedian, allStats.get("median"));
+            assertEquals(expectedMean, hoodStats.get("mean"));
+            assertEquals(expectedMedian, hoodStats.get("median"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test computeStats returns typed statistics matching the maps")
+    public void testComputeStats() {
+        // Act
+        AssessmentStats stats = CalculateStatistics.computeStats(properties);
+
+        // Assert
+        assertEquals(8, stats.count());
+        assertEquals(250000L, stats.min());
+        assertEquals(1000000L, stats.max());
+        assertEquals(750000L, stats.range());
+        assertEquals(4150000L, stats.sum());
+        assertEquals(CalculateStatistics.calculateAllStats(properties), stats.toMap());
+        assertEquals(CalculateStatistics.calculateNeighbourhoodStats(properties), stats.toSummaryMap());
+    }
+
+    @Test
+    @DisplayName("Test computeClassStats returns typed class statistics")
+    public void testComputeClassStats() {
+        // Act
+        AssessmentStats stats = CalculateStatistics.computeClassStats(properties, "industrial");
+
+        // Assert
+        assertEquals(2, stats.count());
+        assertEquals(800000L, stats.median()); // (600000 + 1000000) / 2
+        assertEquals(CalculateStatistics.calculateAssessmentClassStats(properties, "industrial"), stats.toSummaryMap());
+        assertSame(AssessmentStats.EMPTY, CalculateStatistics.computeClassStats(properties, "Farm"));
+        assertSame(AssessmentStats.EMPTY, CalculateStatistics.computeStats(null));
+    }
+
+    @Test
+    @DisplayName("percentileRank should count ties as half below")
+    public void testPercentileRank() {
+        // Arrange
+        long[] sorted = {100, 200, 200, 200, 300, 999};
+
+        // Act & Assert: only the first five values count
+        assertEquals(0.0, CalculateStatistics.percentileRank(sorted, 5, 50));
+        assertEquals(10.0, CalculateStatistics.percentileRank(sorted, 5, 100));
+        assertEquals(50.0, CalculateStatistics.percentileRank(sorted, 5, 200));
+        assertEquals(80.0, CalculateStatistics.percentileRank(sorted, 5, 250));
+        assertEquals(100.0, CalculateStatistics.percentileRank(sorted, 5, 999));
+        assertTrue(Double.isNaN(CalculateStatistics.percentileRank(sorted, 0, 100)));
+    }
+
+    @Test
+    @DisplayName("computeDistribution should give percentiles and standard deviation from one sort")
+    public void testComputeDistribution() {
+        // Arrange
+        long[] values = {500, 100, 400, 200, 300};
+
+        // Act
+        DistributionStats stats = CalculateStatistics.computeDistribution(values, values.length);
+
+        // Assert
+        assertEquals(5, stats.count());
+        assertEquals(100L, stats.min());
+        assertEquals(500L, stats.max());
+        assertEquals(300.0, stats.mean());
+        assertEquals(Math.sqrt(20000), stats.standardDeviation(), 1e-9);
+        assertEquals(120.0, stats.p5(), 1e-9);
+        assertEquals(200.0, stats.p25());
+        assertEquals(300.0, stats.median());
+        assertEquals(400.0, stats.p75());
+        assertEquals(496.0, stats.p99(), 1e-9);
+        assertEquals(200.0, stats.iqr());
+        assertArrayEquals(new long[]{100, 200, 300, 400, 500}, values);
+    }
+
+    @Test
+    @DisplayName("computeDistribution should agree with computeStats on large inputs")
+    public void testComputeDistributionLarge() {
+        // Arrange
+        Random random = new Random(25);
+        long[] values = new long[ParallelStatistics.PARALLEL_THRESHOLD + 3];
+        for (int i = 0; i < values.length; i++) values[i] = 50_000 + random.nextInt(2_000_000);
+        AssessmentStats expected = CalculateStatistics.computeStats(values.clone(), values.length);
+
+        // Act
+        DistributionStats stats = CalculateStatistics.computeDistribution(values, values.length);
+
+        // Assert
+        assertEquals(expected.count(), stats.count());
+        assertEquals(expected.min(), stats.min());
+        assertEquals(expected.max(), stats.max());
+        assertEquals(expected.mean(), stats.mean(), 1e-6);
+        assertEquals(expected.median(), (long) stats.median());
+        for (int i = 1; i < values.length; i++) assertTrue(values[i - 1] <= values[i]);
+    }
+
+    @Test
+    @DisplayName("quantiles should interpolate between neighbouring values")
+    public void testQuantiles() {
+        // Arrange
+        long[] values = {40, 10, 30, 20};
+
+        // Act
+        double[] quantiles = CalculateStatistics.quantiles(values, values.length, 0, 0.5, 0.9, 1);
+
+        // Assert
+        assertArrayEquals(new double[]{10, 25, 37, 40}, quantiles, 1e-9);
+        assertTrue(Double.isNaN(CalculateStatistics.quantile(values, 0, 0.5)));
+        assertThrows(IllegalArgumentException.class, () -> CalculateStatistics.quantile(values, 4, 1.5));
+        assertEquals(DistributionStats.EMPTY, CalculateStatistics.computeDistribution(new long[0], 0));
+    }
+
     // Helper methods
     private PropertyAssessment createProperty(String accountNumber, long assessedValue,
                                               String className, double percentage) {
@@ -0,0 +1,129 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarAssessmentsTest {
+
+    private PropertyAssessment residential;
+    private PropertyAssessment mixedUse;
+
+    @BeforeEach
+    public void setUp() {
+        residential = new PropertyAssessment(
+                "1001", new Address("", "123", "Main St"), "Downtown",
+                300000L, new Location(53.5461, -113.4938),
+                new String[]{"Residential", "", ""},
+                new double[]{100.0, 0.0, 0.0}, "Ward 1");
+
+        mixedUse = new PropertyAssessment(
+                "1002", new Address("101", "456", "Main St"), "Downtown",
+                800000L, new Location(53.6, -113.5),
+                new String[]{"Residential", "Commercial", ""},
+                new double[]{60.0, 40.0, 0.0}, "Ward 2", "Y");
+    }
+
+    @Test
+    @DisplayName("get should rebuild an equivalent PropertyAssessment copy")
+    public void testGetRoundTrip() {
+        // Arrange
+        ColumnarAssessments columns = new ColumnarAssessments();
+        columns.add(residential);
+        columns.add(mixedUse);
+
+        // Act
+        PropertyAssessment copy = columns.get(1);
+
+        // Assert
+        assertEquals(2, columns.size());
+        assertEquals(mixedUse, copy);
+        assertEquals(mixedUse.getAddress(), copy.getAddress());
+        assertEquals("Downtown", copy.getNeighbourhood());
+        assertEquals("Ward 2", copy.getWard());
+        assertEquals("Y", copy.getGarage());
+        assertEquals(800000L, copy.getAssessedValue());
+        assertEquals(mixedUse.getLocation(), copy.getLocation());
+        assertArrayEquals(mixedUse.getAssessmentClasses(), copy.getAssessmentClasses());
+        assertEquals(40.0, copy.getAssessmentClassPercentage("Commercial"));
+    }
+
+    @Test
+    @DisplayName("Repeated strings should share a dictionary code")
+    public void testDictionaryEncoding() {
+        // Arrange
+        ColumnarAssessments columns = new ColumnarAssessments();
+        columns.add(residential);
+        columns.add(mixedUse);
+
+        // Act & Assert
+        assertEquals(columns.getNeighbourhoodCode(0), columns.getNeighbourhoodCode(1));
+        assertNotEquals(columns.getWardCode(0), columns.getWardCode(1));
+        assertEquals(columns.getAssessmentClassCode(0, 0), columns.getAssessmentClassCode(1, 0));
+        assertEquals(1, columns.getNeighbourhoodDictionary().size());
+        assertEquals(1, columns.getStreetDictionary().size());
+        assertEquals("Commercial", columns.getAssessmentClassDictionary()
+                .decode(columns.getAssessmentClassCode(1, 1)));
+    }
+
+    @Test
+    @DisplayName("Column accessors should read single attributes without building rows")
+    public void testColumnAccessors() {
+        // Arrange
+        ColumnarAssessments columns = new ColumnarAssessments();
+        columns.add(residential);
+        columns.add(mixedUse);
+
+        // Act & Assert
+        assertEquals("1002", columns.getAccountNumber(1));
+        assertEquals(53.5461, columns.getLatitude(0));
+        assertEquals(-113.5, columns.getLongitude(1));
+        assertEquals("Ward 1", columns.getWard(0));
+        assertEquals(3, columns.getAssessmentClassCount(0));
+        assertEquals(60.0, columns.getAssessmentClassPercentage(1, 0));
+        assertArrayEquals(new long[]{300000L, 800000L}, columns.getAssessedValues());
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getAssessedValue(2));
+    }
+
+    @Test
+    @DisplayName("Columns should grow past their initial capacity")
+    public void testGrowth() {
+        // Arrange
+        ColumnarAssessments columns = new ColumnarAssessments();
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            columns.add(new PropertyAssessment(
+                    String.valueOf(i), new Address("", "1", "Street " + (i % 10)), "Hood " + (i % 7),
+                    i, new Location(i, -i), new String[]{"Residential"},
+                    new double[]{100.0}, "Ward " + (i % 3)));
+        }
+
+        // Assert
+        assertEquals(5000, columns.size());
+        assertEquals(4999L, columns.getAssessedValue(4999));
+        assertEquals("Hood 1", columns.getNeighbourhood(4999));
+        assertEquals(7, columns.getNeighbourhoodDictionary().size());
+    }
+
+    @Test
+    @DisplayName("asList and toPropertyAssessments should round-trip a PropertyAssessments collection")
+    public void testConversions() {
+        // Arrange
+        PropertyAssessments assessments = new PropertyAssessments();
+        assessments.addAssessment(residential);
+        assessments.addAssessment(mixedUse);
+
+        // Act
+        ColumnarAssessments columns = assessments.toColumnar();
+        List<PropertyAssessment> view = columns.asList();
+        PropertyAssessments restored = columns.toPropertyAssessments();
+
+        // Assert
+        assertEquals(assessments.getAssessments(), view);
+        assertEquals(assessments.getCityStatistics(), restored.getCityStatistics());
+        assertEquals(2, restored.getNeighbourhood("Downtown").getCount());
+    }
+}
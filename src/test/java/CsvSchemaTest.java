@@ -0,0 +1,79 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvSchemaTest {
+
+    private static final String[] HEADER = {"Account Number", " Ward ", "Assessed Value", "Ward", "Point Location"};
+
+    @Test
+    @DisplayName("indexOf should ignore case and whitespace and prefer the first of repeated names")
+    public void testIndexOf() {
+        // Arrange
+        CsvSchema schema = new CsvSchema(HEADER);
+
+        // Act & Assert
+        assertEquals(0, schema.indexOf("account number"));
+        assertEquals(1, schema.indexOf("WARD"));
+        assertEquals(2, schema.indexOf("  Assessed Value"));
+        assertEquals(CsvSchema.NOT_FOUND, schema.indexOf("Garage"));
+        assertEquals(CsvSchema.NOT_FOUND, schema.indexOf(null));
+        assertEquals(5, schema.size());
+        assertEquals(" Ward ", schema.getColumn(1));
+    }
+
+    @Test
+    @DisplayName("The column limit should cover exactly the required columns")
+    public void testColumnLimit() {
+        // Arrange
+        CsvSchema schema = new CsvSchema(HEADER);
+
+        // Act
+        int before = schema.getColumnLimit();
+        schema.require("Ward");
+        int afterWard = schema.getColumnLimit();
+        schema.indexOf("Point Location"); // Looking a column up doesn't require it
+        int[] positions = schema.require("Assessed Value", "Account Number");
+
+        // Assert
+        assertEquals(5, before, "Nothing required yet means the whole row");
+        assertEquals(2, afterWard);
+        assertArrayEquals(new int[]{2, 0}, positions);
+        assertEquals(3, schema.getColumnLimit());
+    }
+
+    @Test
+    @DisplayName("Skipped columns should be the unrequired ones before the column limit")
+    public void testSkippedColumns() {
+        // Arrange
+        CsvSchema schema = new CsvSchema(HEADER);
+
+        // Act
+        boolean[] before = schema.getSkippedColumns();
+        schema.require("Account Number");
+        boolean[] none = schema.getSkippedColumns();
+        schema.require("Assessed Value");
+        boolean[] skipped = schema.getSkippedColumns();
+
+        // Assert
+        assertNull(before, "Nothing required yet means nothing is skipped");
+        assertNull(none);
+        assertArrayEquals(new boolean[]{false, true}, skipped);
+    }
+
+    @Test
+    @DisplayName("require should name every missing column")
+    public void testRequireMissing() {
+        // Arrange
+        CsvSchema schema = new CsvSchema(HEADER);
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> schema.require("Ward", "Garage", "Suite"));
+
+        // Assert
+        assertTrue(error.getMessage().contains("[Garage, Suite]"), error.getMessage());
+        assertEquals(5, schema.getColumnLimit(), "A failed require shouldn't narrow the limit");
+    }
+}
@@ -0,0 +1,198 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvTokenizer Tests")
+class CsvTokenizerTest {
+
+    @Test
+    @DisplayName("Should split simple rows and trim fields")
+    void testSimpleRows() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("a, b ,c\n1,2,3\n", 1024);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"a", "b", "c"}, rows.get(0));
+        assertArrayEquals(new String[]{"1", "2", "3"}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Should keep empty fields, including a trailing one")
+    void testEmptyFields() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("1,,3,\n", 1024);
+
+        // Assert
+        assertArrayEquals(new String[]{"1", "", "3", ""}, rows.get(0));
+    }
+
+    @Test
+    @DisplayName("Should handle quoted fields with commas, escaped quotes and line breaks")
+    void testQuotedFields() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\"\nnext,row,here\n", 1024);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"a,b", "say \"hi\"", "line1\nline2"}, rows.get(0));
+        assertArrayEquals(new String[]{"next", "row", "here"}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Should keep whitespace inside quotes but trim around them")
+    void testQuotedWhitespace() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("  \" padded \"  ,x\n", 1024);
+
+        // Assert
+        assertArrayEquals(new String[]{" padded ", "x"}, rows.get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep commas inside (nested) parentheses")
+    void testParentheses() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("1,POINT (-113.39 53.61),NESTED (A (B), C),2\n", 1024);
+
+        // Assert
+        assertArrayEquals(new String[]{"1", "POINT (-113.39 53.61)", "NESTED (A (B), C)", "2"}, rows.get(0));
+    }
+
+    @Test
+    @DisplayName("Should accept CRLF line endings, skip blank lines and handle a missing final newline")
+    void testLineEndings() throws IOException {
+        // Act
+        List<String[]> rows = tokenize("a,b\r\n\r\n\nc,d\re,f", 1024);
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[]{"a", "b"}, rows.get(0));
+        assertArrayEquals(new String[]{"c", "d"}, rows.get(1));
+        assertArrayEquals(new String[]{"e", "f"}, rows.get(2));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should give the same result regardless of buffer size")
+    @ValueSource(ints = {16, 17, 31, 64, 4096})
+    void testSmallBuffers(int bufferSize) throws IOException {
+        // Arrange
+        String csv = "3925286,,,,N,2311,GORMAN,Dene Ward,162000,53.61782538629719,-113.39340667965742,"
+                + "POINT (-113.39340667965742 53.61782538629719),100,,,COMMERCIAL,,\n"
+                + "\"quoted, with comma\",\"escaped \"\" quote\",\"multi\nline\",last\n";
+
+        // Act
+        List<String[]> expected = tokenize(csv, 4096);
+        List<String[]> actual = tokenize(csv, bufferSize);
+
+        // Assert
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Row " + i + " should match");
+        }
+        assertEquals("POINT (-113.39340667965742 53.61782538629719)", actual.get(0)[11]);
+        assertEquals("multi\nline", actual.get(1)[2]);
+    }
+
+    @Test
+    @DisplayName("getField should only materialize the requested column")
+    void testGetField() throws IOException {
+        // Arrange
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,,c\n"));
+
+        // Act
+        assertTrue(tokenizer.nextRow());
+
+        // Assert
+        assertEquals(3, tokenizer.getFieldCount());
+        assertEquals("c", tokenizer.getField(2));
+        assertTrue(tokenizer.isEmpty(1));
+        assertFalse(tokenizer.isEmpty(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenizer.getField(3));
+        assertFalse(tokenizer.nextRow());
+    }
+
+    @Test
+    @DisplayName("Should return no rows for empty input")
+    void testEmptyInput() throws IOException {
+        // Act & Assert
+        assertTrue(tokenize("", 1024).isEmpty());
+    }
+
+    // Helper method
+    @ParameterizedTest
+    @ValueSource(ints = {16, 1024})
+    @DisplayName("A column limit should drop trailing fields, even quoted ones with line breaks")
+    void testColumnLimit(int bufferSize) throws IOException {
+        // Arrange
+        String csv = "a,b,\"c,\nstill c\",d\n1,2,POINT (1, 2),\"x\"\"y\"\n\n3\n4,5,6";
+        List<String[]> rows = new ArrayList<>();
+
+        // Act
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), bufferSize)) {
+            tokenizer.setColumnLimit(2);
+            while (tokenizer.nextRow()) {
+                rows.add(tokenizer.toArray());
+            }
+        }
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[]{"a", "b"}, rows.get(0));
+        assertArrayEquals(new String[]{"1", "2"}, rows.get(1));
+        assertArrayEquals(new String[]{"3"}, rows.get(2)); // Short rows are unaffected
+        assertArrayEquals(new String[]{"4", "5"}, rows.get(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 1024})
+    @DisplayName("Skipped columns should read as empty without disturbing the fields around them")
+    void testSkippedColumns(int bufferSize) throws IOException {
+        // Arrange
+        String csv = "a,\"b,\nstill b\",c,d\n1,POINT (1, 2),\"x\"\"y\",4\n\n5\n\"6\",  \"7\" ,8,9";
+        List<String[]> rows = new ArrayList<>();
+
+        // Act
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), bufferSize)) {
+            tokenizer.setSkippedColumns(new boolean[]{false, true, true});
+            while (tokenizer.nextRow()) {
+                rows.add(tokenizer.toArray());
+            }
+        }
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[]{"a", "", "", "d"}, rows.get(0));
+        assertArrayEquals(new String[]{"1", "", "", "4"}, rows.get(1));
+        assertArrayEquals(new String[]{"5"}, rows.get(2));
+        assertArrayEquals(new String[]{"6", "", "", "9"}, rows.get(3));
+    }
+
+    @Test
+    @DisplayName("A column limit below one should be rejected")
+    void testInvalidColumnLimit() {
+        // Arrange
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(""));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.setColumnLimit(0));
+    }
+
+    private List<String[]> tokenize(String csv, int bufferSize) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), bufferSize)) {
+            while (tokenizer.nextRow()) {
+                rows.add(tokenizer.toArray());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,27 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistributionStatsTest {
+
+    @Test
+    @DisplayName("iqr should be the distance between the quartiles")
+    public void testIqr() {
+        // Arrange
+        DistributionStats stats = new DistributionStats(5, 100L, 500L, 300.0, 141.4,
+                120.0, 200.0, 300.0, 400.0, 480.0, 496.0);
+
+        // Act & Assert
+        assertEquals(200.0, stats.iqr());
+        assertFalse(stats.isEmpty());
+    }
+
+    @Test
+    @DisplayName("EMPTY should have no values")
+    public void testEmpty() {
+        // Act & Assert
+        assertTrue(DistributionStats.EMPTY.isEmpty());
+        assertEquals(0.0, DistributionStats.EMPTY.iqr());
+    }
+}
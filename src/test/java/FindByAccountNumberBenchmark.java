@@ -0,0 +1,53 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Rough benchmark for PropertyAssessments.findByAccountNumber, run with the
+ * test classpath. Prints the average lookup time (and bulk findAll time) at
+ * increasing dataset sizes, which should stay flat now that lookups go
+ * through the account index instead of a linear scan.
+ */
+
+public class FindByAccountNumberBenchmark {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 50_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+
+        for (int size : SIZES) {
+            PropertyAssessments assessments = new PropertyAssessments();
+            for (int i = 0; i < size; i++) {
+                assessments.addAssessment(new PropertyAssessment(
+                        String.valueOf(1_000_000 + i), new Address("", "1", "Main St"), "Downtown",
+                        i, new Location(0, 0), new String[]{"RESIDENTIAL", "", ""},
+                        new double[]{100.0, 0.0, 0.0}, "Ward 1"));
+            }
+
+            List<String> accounts = new ArrayList<>(LOOKUPS);
+            for (int i = 0; i < LOOKUPS; i++) {
+                accounts.add(String.valueOf(1_000_000 + random.nextInt(size)));
+            }
+
+            long best = Long.MAX_VALUE;
+            long bestBulk = Long.MAX_VALUE;
+            long found = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (String account : accounts) {
+                    if (assessments.findByAccountNumber(account) != null) found++;
+                }
+                best = Math.min(best, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                found += assessments.findAll(accounts).size();
+                bestBulk = Math.min(bestBulk, System.nanoTime() - start);
+            }
+
+            System.out.printf("%,10d properties: findByAccountNumber %.1f ns/lookup, findAll %.1f ns/lookup (%d hits)%n",
+                    size, (double) best / LOOKUPS, (double) bestBulk / LOOKUPS, found);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupStatisticsTest {
+
+    private List<PropertyAssessment> properties;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new ArrayList<>();
+        properties.add(createProperty("1001", "Downtown", "Ward 1", "Y", 100000L,
+                new String[]{"Residential", "", ""}, new double[]{100.0, 0.0, 0.0}));
+        properties.add(createProperty("1002", "Downtown", "Ward 1", "N", 300000L,
+                new String[]{"Residential", "Commercial", ""}, new double[]{60.0, 40.0, 0.0}));
+        properties.add(createProperty("1003", "Uptown", "Ward 2", "Y", 500000L,
+                new String[]{"Commercial", "Farmland", ""}, new double[]{100.0, 0.0, 0.0}));
+        properties.add(createProperty("1004", "Uptown", "", "", 700000L,
+                new String[]{"Commercial", "", ""}, new double[]{100.0, 0.0, 0.0}));
+    }
+
+    @Test
+    @DisplayName("Should compute count, sum, min and max per ward")
+    public void testWardGroups() {
+        // Act
+        GroupStatistics statistics = GroupStatistics.aggregate(properties, GroupStatistics.Dimension.WARD);
+        Map<String, GroupStatistics.Accumulator> wards = statistics.get(GroupStatistics.Dimension.WARD);
+
+        // Assert
+        assertEquals(2, wards.size(), "Empty ward should be skipped");
+        GroupStatistics.Accumulator ward1 = wards.get("Ward 1");
+        assertEquals(2, ward1.getCount());
+        assertEquals(400000L, ward1.getSum());
+        assertEquals(100000L, ward1.getMin());
+        assertEquals(300000L, ward1.getMax());
+        assertEquals(200000.0, ward1.getMean(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should fill several dimensions from one pass")
+    public void testMultipleDimensions() {
+        // Act
+        GroupStatistics statistics = GroupStatistics.aggregate(properties,
+                GroupStatistics.Dimension.NEIGHBOURHOOD, GroupStatistics.Dimension.GARAGE);
+
+        // Assert
+        assertEquals(1200000L, statistics.get(GroupStatistics.Dimension.NEIGHBOURHOOD).get("Uptown").getSum());
+        assertEquals(2, statistics.get(GroupStatistics.Dimension.GARAGE).get("Y").getCount());
+        assertEquals(1, statistics.get(GroupStatistics.Dimension.GARAGE).get("N").getCount());
+        assertTrue(statistics.get(GroupStatistics.Dimension.WARD).isEmpty(), "Dimension not requested");
+    }
+
+    @Test
+    @DisplayName("Assessment classes should only count properties with a positive share")
+    public void testAssessmentClassGroups() {
+        // Act
+        Map<String, GroupStatistics.Accumulator> classes = GroupStatistics.aggregate(properties,
+                GroupStatistics.Dimension.ASSESSMENT_CLASS).get(GroupStatistics.Dimension.ASSESSMENT_CLASS);
+
+        // Assert
+        assertEquals(2, classes.get("Residential").getCount());
+        assertEquals(3, classes.get("Commercial").getCount());
+        assertEquals(1500000L, classes.get("Commercial").getSum());
+        assertEquals(0, classes.get("Farmland").getCount(), "Class seen with a zero share");
+        assertEquals(0, classes.get("Farmland").getMin());
+        assertEquals(0.0, classes.get("Farmland").getMean());
+    }
+
+    @Test
+    @DisplayName("Merging partial aggregations should match aggregating everything at once")
+    public void testMerge() {
+        // Arrange
+        GroupStatistics expected = GroupStatistics.aggregate(properties, GroupStatistics.Dimension.WARD);
+        GroupStatistics first = GroupStatistics.aggregate(properties.subList(0, 1), GroupStatistics.Dimension.WARD);
+        GroupStatistics second = GroupStatistics.aggregate(properties.subList(1, 4), GroupStatistics.Dimension.WARD);
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        for (String ward : expected.get(GroupStatistics.Dimension.WARD).keySet()) {
+            GroupStatistics.Accumulator want = expected.get(GroupStatistics.Dimension.WARD).get(ward);
+            GroupStatistics.Accumulator got = first.get(GroupStatistics.Dimension.WARD).get(ward);
+            assertEquals(want.getCount(), got.getCount());
+            assertEquals(want.getSum(), got.getSum());
+            assertEquals(want.getMin(), got.getMin());
+            assertEquals(want.getMax(), got.getMax());
+        }
+    }
+
+    @Test
+    @DisplayName("InfographicData sections should agree with the aggregation")
+    public void testInfographicData() {
+        // Arrange
+        PropertyAssessments assessments = new PropertyAssessments();
+        properties.forEach(assessments::addAssessment);
+        InfographicData data = new InfographicData(assessments);
+
+        // Act
+        Map<String, Integer> distribution = data.getPropertyTypeDistribution();
+        Map<String, Double> averages = data.getAverageValueByPropertyType();
+        Map<String, Double> wards = data.getWardAverageValues();
+
+        // Assert
+        assertEquals(Map.of("Residential", 2, "Commercial", 3, "Farmland", 0), distribution);
+        assertEquals(2, averages.size(), "Classes without any share have no average");
+        assertEquals(200000.0, averages.get("Residential"), 0.001);
+        assertEquals(500000.0, averages.get("Commercial"), 0.001);
+        assertEquals(Map.of("Ward 1", 200000.0, "Ward 2", 500000.0), wards);
+    }
+
+    // Helper method
+    private PropertyAssessment createProperty(String account, String neighbourhood, String ward, String garage,
+                                              long value, String[] classes, double[] percentages) {
+        return new PropertyAssessment(account, new Address("", "1", "Main St"), neighbourhood, value,
+                new Location(53.5, -113.5), classes, percentages, ward, garage);
+    }
+}
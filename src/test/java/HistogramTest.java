@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HistogramTest {
+
+    @Test
+    @DisplayName("Linear buckets should have equal widths covering min to max")
+    public void testLinearBuckets() {
+        // Arrange
+        Histogram histogram = Histogram.linear(0, 999, 10);
+
+        // Act
+        histogram.add(new long[]{0, 99, 100, 550, 999, 1000, -1}, 7);
+
+        // Assert
+        assertEquals(10, histogram.getBucketCount());
+        assertEquals(100, histogram.getLowerBound(1));
+        assertEquals(200, histogram.getUpperBound(1));
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(5));
+        assertEquals(1, histogram.getCount(9));
+        assertEquals(1, histogram.getUnderflow());
+        assertEquals(1, histogram.getOverflow());
+        assertEquals(7, histogram.getTotal());
+    }
+
+    @Test
+    @DisplayName("Logarithmic buckets should grow tenfold per decade")
+    public void testLogarithmicBuckets() {
+        // Arrange
+        Histogram histogram = Histogram.logarithmic(10_000, 10_000_000, 2);
+
+        // Act
+        histogram.add(10_000);
+        histogram.add(31_622);
+        histogram.add(31_623);
+        histogram.add(9_999_999);
+        histogram.add(10_000_000);
+
+        // Assert
+        assertEquals(7, histogram.getBucketCount());
+        assertEquals(31_623, histogram.getUpperBound(0));
+        assertEquals(100_000, histogram.getUpperBound(1));
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(5));
+        assertEquals(1, histogram.getCount(6));
+        assertEquals(0, histogram.getOverflow());
+    }
+
+    @Test
+    @DisplayName("Small logarithmic bounds should stay strictly increasing")
+    public void testLogarithmicSmallBounds() {
+        // Act
+        Histogram histogram = Histogram.logarithmic(1, 5, 10);
+
+        // Assert
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            assertTrue(histogram.getLowerBound(i) < histogram.getUpperBound(i));
+        }
+        assertTrue(histogram.getUpperBound(histogram.getBucketCount() - 1) > 5);
+    }
+
+    @Test
+    @DisplayName("Merging slices should give exactly the histogram of the whole")
+    public void testMergeMatchesWhole() {
+        // Arrange
+        Random random = new Random(25);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) values[i] = (long) Math.exp(8 + random.nextDouble() * 8);
+        Histogram whole = Histogram.logarithmic(5_000, 5_000_000, 5);
+        Histogram left = whole.emptyCopy();
+        Histogram right = whole.emptyCopy();
+
+        // Act
+        whole.add(values, values.length);
+        for (int i = 0; i < values.length; i++) {
+            (i % 3 == 0 ? left : right).add(values[i]);
+        }
+        left.merge(right);
+
+        // Assert
+        assertEquals(whole, left);
+        assertEquals(values.length, left.getTotal());
+    }
+
+    @Test
+    @DisplayName("Histograms with different buckets should refuse to merge")
+    public void testMergeDifferentBuckets() {
+        // Arrange
+        Histogram histogram = Histogram.linear(0, 100, 10);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(Histogram.linear(0, 100, 5)));
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(Histogram.logarithmic(1, 100, 5)));
+    }
+
+    @Test
+    @DisplayName("Invalid bucket layouts should be rejected")
+    public void testInvalidLayouts() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(0, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(100, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.logarithmic(0, 100, 10));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.logarithmic(10, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(0, Long.MAX_VALUE, 4));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(Long.MIN_VALUE, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(0, Long.MAX_VALUE - 1, 3));
+    }
+
+    @Test
+    @DisplayName("Linear buckets spanning most of the long range should still count exactly")
+    public void testWideLinearBuckets() {
+        // Arrange
+        long max = (1L << 62) - 1;
+        Histogram histogram = Histogram.linear(0, max, 2);
+
+        // Act
+        histogram.add(1_000_000);
+        histogram.add(max);
+        histogram.add(max + 1);
+
+        // Assert
+        assertEquals(1, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getOverflow());
+        assertEquals(max + 1, histogram.getUpperBound(1));
+    }
+}
@@ -62,6 +62,24 @@ public class HoodAssessmentTest {
         assertEquals(0L, assessment.getValueRange());
     }
 
+    @Test
+    @DisplayName("Constructor with typed stats should set values correctly")
+    public void testConstructorWithAssessmentStats() {
+        // Arrange
+        AssessmentStats stats = new AssessmentStats(10, 300000L, 800000L, 500000L, 5000000L, 500000.0, 450000L);
+
+        // Act
+        HoodAssessment assessment = new HoodAssessment("Test Neighbourhood", stats);
+
+        // Assert
+        assertEquals(10, assessment.getPropertyCount());
+        assertEquals(500000.0, assessment.getMeanValue(), 0.01);
+        assertEquals(450000L, assessment.getMedianValue());
+        assertEquals(300000L, assessment.getMinValue());
+        assertEquals(800000L, assessment.getMaxValue());
+        assertEquals(500000L, assessment.getValueRange());
+    }
+
     @Test
     @DisplayName("Constructor with Neighbourhood should calculate stats correctly")
     public void testConstructorWithNeighbourhood() {
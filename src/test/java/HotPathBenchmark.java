@@ -0,0 +1,139 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Benchmarks for the load, lookup and statistics hot paths, run against a
+ * generated CSV of the requested size (run with the test classpath, see the
+ * benchmark profile in the pom).
+ *
+ * Arguments: [rows] [name filter], plus optional system properties
+ * benchmark.output (write results), benchmark.baseline (compare results) and
+ * benchmark.tolerance (allowed slowdown, default 0.25).
+ */
+
+public class HotPathBenchmark {
+    private static final int LOOKUPS = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : 100_000;
+        String filter = args.length > 1 && !args[1].isEmpty() ? args[1] : null;
+        BenchmarkRunner runner = new BenchmarkRunner(3, 7, filter);
+
+        Path csv = Files.createTempFile("assessments-" + rows + "-", ".csv");
+        try {
+            new AssessmentDataGenerator(42).writeCsv(csv, rows);
+            System.out.printf("%,d rows (%,d bytes)%n", rows, Files.size(csv));
+            runAll(runner, csv, rows);
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+
+        String output = System.getProperty("benchmark.output");
+        if (output != null && !output.isEmpty()) {
+            runner.writeResults(Path.of(output));
+        }
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null && !baseline.isEmpty()) {
+            double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.25"));
+            if (runner.compareWithBaseline(Path.of(baseline), tolerance) > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static void runAll(BenchmarkRunner runner, Path csv, int rows) throws Exception {
+        // Loading
+        String[][] data = ParseCSV.readData(csv);
+        runner.run("ParseCSV.readData", rows, () -> ParseCSV.readData(csv));
+        runner.run("new PropertyAssessment(String[])", rows, () -> {
+            PropertyAssessment last = null;
+            for (String[] row : data) last = new PropertyAssessment(row);
+            return last;
+        });
+
+        List<PropertyAssessment> properties = new ArrayList<>(rows);
+        for (String[] row : data) properties.add(new PropertyAssessment(row));
+        runner.run("PropertyAssessments.addAssessment", rows, () -> {
+            PropertyAssessments fresh = new PropertyAssessments();
+            for (PropertyAssessment property : properties) fresh.addAssessment(property);
+            return fresh;
+        });
+        runner.run("PropertyAssessments.loadCsv (parallel)", rows,
+                () -> PropertyAssessments.loadCsv(csv, Runtime.getRuntime().availableProcessors()));
+
+        // Lookups
+        PropertyAssessments assessments = new PropertyAssessments();
+        properties.forEach(assessments::addAssessment);
+        Random random = new Random(7);
+        String[] accounts = new String[LOOKUPS];
+        String[] names = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            accounts[i] = AssessmentDataGenerator.accountNumber(random.nextInt(rows));
+            names[i] = properties.get(random.nextInt(rows)).getNeighbourhood().toLowerCase(Locale.ROOT);
+        }
+        runner.run("PropertyAssessments.findByAccountNumber", LOOKUPS, () -> {
+            int found = 0;
+            for (String account : accounts) if (assessments.findByAccountNumber(account) != null) found++;
+            return found;
+        });
+        runner.run("PropertyAssessments.getNeighbourhood", LOOKUPS, () -> {
+            int found = 0;
+            for (String name : names) if (assessments.getNeighbourhood(name) != null) found++;
+            return found;
+        });
+
+        Location[] centres = new Location[1000];
+        for (int i = 0; i < centres.length; i++) centres[i] = properties.get(random.nextInt(rows)).getLocation();
+        assessments.getSpatialIndex();
+        runner.run("SpatialIndex.getRadiusStats (500 m)", centres.length, () -> {
+            long count = 0;
+            for (Location centre : centres) count += assessments.getSpatialIndex().getRadiusStats(centre, 500).count();
+            return count;
+        });
+        runner.run("SpatialIndex.findNearest (k = 10)", centres.length, () -> {
+            int found = 0;
+            for (Location centre : centres) found += assessments.findNearest(centre, 10).size();
+            return found;
+        });
+
+        // Statistics
+        Collection<PropertyAssessment> hood = assessments.getNeighbourhood(names[0]).getProperties();
+        long[] values = new long[rows];
+        runner.run("CalculateStatistics.calculateAllStats", rows, () -> CalculateStatistics.calculateAllStats(properties));
+        runner.run("CalculateStatistics.calculateNeighbourhoodStats", hood.size(),
+                () -> CalculateStatistics.calculateNeighbourhoodStats(hood));
+        runner.run("CalculateStatistics.calculateAssessmentClassStats", rows,
+                () -> CalculateStatistics.calculateAssessmentClassStats(properties, "residential"));
+        runner.run("CalculateStatistics.calculateValueStats", rows, () -> {
+            for (int i = 0; i < rows; i++) values[i] = properties.get(i).getAssessedValue();
+            return CalculateStatistics.calculateValueStats(values);
+        });
+        runner.run("CalculateStatistics.computeStats", rows, () -> CalculateStatistics.computeStats(properties));
+        runner.run("CalculateStatistics.computeSequentialStats", rows, () -> {
+            for (int i = 0; i < rows; i++) values[i] = properties.get(i).getAssessedValue();
+            return CalculateStatistics.computeSequentialStats(values, rows);
+        });
+        runner.run("PropertyAssessments.getHoodAssessments", rows, assessments::getHoodAssessments);
+        runner.run("CalculateStatistics.computeClassStats", rows,
+                () -> CalculateStatistics.computeClassStats(properties, "COMMERCIAL"));
+        runner.run("PropertyAssessments.getAssessmentClassStats", rows,
+                () -> assessments.getAssessmentClassStats("COMMERCIAL"));
+
+        // Infographic sections, each on a fresh instance so the shared aggregation is included
+        runner.run("InfographicData.getPropertyTypeDistribution", rows,
+                () -> new InfographicData(assessments).getPropertyTypeDistribution());
+        runner.run("InfographicData.getAverageValueByPropertyType", rows,
+                () -> new InfographicData(assessments).getAverageValueByPropertyType());
+        runner.run("InfographicData.getWardAverageValues", rows,
+                () -> new InfographicData(assessments).getWardAverageValues());
+        runner.run("InfographicData.getHighestValuedWards", rows,
+                () -> new InfographicData(assessments).getHighestValuedWards(5));
+        runner.run("InfographicData.getLowestValuedWards", rows,
+                () -> new InfographicData(assessments).getLowestValuedWards(5));
+    }
+}
@@ -2,8 +2,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -157,6 +160,167 @@ public class NeighbourhoodTest {
         assertEquals(neighbourhood1.hashCode(), neighbourhood2.hashCode());
     }
 
+    @Test
+    @DisplayName("removeProperty should remove only that property instance")
+    public void testRemoveProperty() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property2);
+
+        // Act
+        boolean removed = neighbourhood.removeProperty(property1);
+        boolean removedAgain = neighbourhood.removeProperty(property1);
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(removedAgain);
+        assertEquals(1, neighbourhood.getCount());
+        assertEquals(500000L, neighbourhood.getAssessmentStats().sum());
+    }
+
+    @Test
+    @DisplayName("removeProperty should keep finding the remaining properties, including repeated instances")
+    public void testRemovePropertyPositions() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property2);
+        neighbourhood.addProperty(property1);
+
+        // Act & Assert: the copy moved into the gap is the instance being removed
+        assertTrue(neighbourhood.removeProperty(property1));
+        assertEquals(2, neighbourhood.getCount());
+        neighbourhood.addProperty(property3);
+        assertTrue(neighbourhood.removeProperty(property1), "The second copy should still be found");
+        assertFalse(neighbourhood.removeProperty(property1));
+        assertTrue(neighbourhood.removeProperty(property3));
+        assertEquals(List.of(property2), neighbourhood.getProperties());
+        assertTrue(neighbourhood.removeProperty(property2));
+        assertEquals(0, neighbourhood.getCount());
+    }
+
+    @Test
+    @DisplayName("Cached statistics should equal freshly computed ones after interleaved changes")
+    public void testCachedStatsMatchFresh() {
+        // Arrange
+        Random random = new Random(11);
+        List<PropertyAssessment> added = new ArrayList<>();
+
+        for (int step = 0; step < 500; step++) {
+            // Act
+            if (added.isEmpty() || random.nextInt(3) > 0) {
+                PropertyAssessment property = createProperty(String.valueOf(step), 100_000 + random.nextInt(20) * 50_000L);
+                neighbourhood.addProperty(property);
+                added.add(property);
+            } else {
+                // Favour removing the extremes so the running min and max have to be rebuilt
+                added.sort(Comparator.comparingLong(PropertyAssessment::getAssessedValue));
+                PropertyAssessment removed = added.remove(random.nextBoolean() ? 0 : added.size() - 1);
+                assertTrue(neighbourhood.removeProperty(removed));
+            }
+
+            // Assert
+            if (step % 7 == 0) {
+                assertEquals(CalculateStatistics.computeStats(added), neighbourhood.getAssessmentStats(), "Step " + step);
+            }
+        }
+        assertEquals(CalculateStatistics.computeStats(added), neighbourhood.getAssessmentStats());
+        assertEquals(CalculateStatistics.calculateNeighbourhoodStats(added), neighbourhood.getStatistics());
+    }
+
+    @Test
+    @DisplayName("Repeated queries without changes should reuse the cached statistics")
+    public void testStatsAreCached() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property2);
+
+        // Act
+        AssessmentStats first = neighbourhood.getAssessmentStats();
+        AssessmentStats second = neighbourhood.getAssessmentStats();
+        neighbourhood.addProperty(property3);
+        AssessmentStats afterAdd = neighbourhood.getAssessmentStats();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(400000L, first.median());
+        assertEquals(500000L, afterAdd.median());
+        assertEquals(700000L, afterAdd.max());
+    }
+
+    @Test
+    @DisplayName("Removing every property should reset the statistics")
+    public void testStatsAfterRemovingEverything() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.getAssessmentStats();
+
+        // Act
+        neighbourhood.removeProperty(property1);
+        AssessmentStats emptied = neighbourhood.getAssessmentStats();
+        neighbourhood.addProperty(property2);
+
+        // Assert
+        assertEquals(AssessmentStats.EMPTY, emptied);
+        assertEquals(500000L, neighbourhood.getAssessmentStats().min());
+        assertEquals(500000L, neighbourhood.getAssessmentStats().max());
+    }
+
+    @Test
+    @DisplayName("getPercentileRank should place values among the neighbourhood's properties")
+    public void testGetPercentileRank() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property2);
+        neighbourhood.addProperty(property3);
+
+        // Act & Assert: ties count as half below
+        assertEquals(100.0 * 0.5 / 3, neighbourhood.getPercentileRank(300000), 1e-9);
+        assertEquals(50.0, neighbourhood.getPercentileRank(500000), 1e-9);
+        assertEquals(100.0 * 2 / 3, neighbourhood.getPercentileRank(600000), 1e-9);
+        assertEquals(0.0, neighbourhood.getPercentileRank(1));
+        assertEquals(100.0, neighbourhood.getPercentileRank(1_000_000));
+    }
+
+    @Test
+    @DisplayName("getPercentileRank should reflect properties added and removed since the last query")
+    public void testPercentileRankAfterChanges() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property3);
+        assertEquals(50.0, neighbourhood.getPercentileRank(500000));
+
+        // Act
+        neighbourhood.addProperty(property2);
+        neighbourhood.removeProperty(property3);
+
+        // Assert
+        assertEquals(75.0, neighbourhood.getPercentileRank(500000), 1e-9);
+        assertTrue(Double.isNaN(new Neighbourhood("Empty").getPercentileRank(500000)));
+    }
+
+    @Test
+    @DisplayName("getDistribution and getHistogram should cover the neighbourhood's values")
+    public void testDistributionAndHistogram() {
+        // Arrange
+        neighbourhood.addProperty(property1);
+        neighbourhood.addProperty(property2);
+        Histogram layout = Histogram.linear(0, 999_999, 10);
+
+        // Act
+        DistributionStats before = neighbourhood.getDistribution();
+        neighbourhood.addProperty(property3);
+        DistributionStats after = neighbourhood.getDistribution();
+        Histogram histogram = neighbourhood.getHistogram(layout);
+
+        // Assert
+        assertEquals(400000.0, before.median());
+        assertEquals(500000.0, after.median());
+        assertEquals(700000L, after.max());
+        assertEquals(1, histogram.getCount(3));
+        assertEquals(1, histogram.getCount(7));
+        assertEquals(0, layout.getTotal());
+    }
+
     // Helper method
     private PropertyAssessment createProperty(String accountNumber, long assessedValue) {
         return new PropertyAssessment(
@@ -0,0 +1,102 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumberParserTest {
+
+    @Test
+    @DisplayName("parseLong should accept signs and thousands separators")
+    public void testParseLong() {
+        // Act & Assert
+        assertEquals(162000L, NumberParser.parseLong("162000", -1));
+        assertEquals(1234567L, NumberParser.parseLong("1,234,567", -1));
+        assertEquals(-42L, NumberParser.parseLong("-42", -1));
+        assertEquals(42L, NumberParser.parseLong("+4,2", -1));
+        assertEquals(Long.MAX_VALUE, NumberParser.parseLong(String.valueOf(Long.MAX_VALUE), -1));
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong(String.valueOf(Long.MIN_VALUE), -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ",", "-", "12.5", "1e5", "abc", "9223372036854775808", " 12", "--1"})
+    @DisplayName("parseLong should return the fallback for anything Long.parseLong would reject")
+    public void testParseLongInvalid(String value) {
+        // Act & Assert
+        assertEquals(-1L, NumberParser.parseLong(value, -1));
+        assertEquals(-1L, NumberParser.parseLong(null, -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"53.61782538629719", "-113.39340667965742", "100", "0.5", "-0", "1e22", "1.7976931348623157E308",
+            "4.9E-324", "2.2250738585072014E-308", "123456789012345678901234567890", "0.000000000000000000000000001",
+            "9007199254740993", "1e-400", "1e400", " 42.5 ", "7.", ".25", "+3.0e-2"})
+    @DisplayName("parseDouble should give exactly what Double.parseDouble does")
+    public void testParseDoubleMatchesJdk(String value) {
+        // Act
+        double parsed = NumberParser.parseDouble(value, Double.NaN);
+
+        // Assert
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(parsed), value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ".", "-", "e5", "1e", "1.2.3", "NaN", "Infinity", "0x1p3", "1d", "12abc", "1,000.5"})
+    @DisplayName("parseDouble should return the fallback for non-decimal input")
+    public void testParseDoubleInvalid(String value) {
+        // Act & Assert
+        assertEquals(-1.0, NumberParser.parseDouble(value, -1.0));
+    }
+
+    @Test
+    @DisplayName("Random coordinates and decimals should be bit-identical to Double.parseDouble")
+    public void testRandomDecimalsAreExact() {
+        // Arrange
+        Random random = new Random(2024);
+
+        for (int i = 0; i < 300_000; i++) {
+            String value = switch (i % 4) {
+                // Shortest round-trip form, as written by most CSV exporters
+                case 0 -> Double.toString(53 + random.nextDouble());
+                case 1 -> Double.toString(-114 + random.nextDouble());
+                // Arbitrary digit strings of every length, with the point anywhere
+                case 2 -> randomDecimal(random, 1 + random.nextInt(22));
+                // Arbitrary doubles over the whole range
+                default -> Double.toString(Double.longBitsToDouble(random.nextLong()));
+            };
+            if (value.contains("N") || value.contains("I")) continue; // NaN and Infinity aren't accepted
+
+            // Act
+            double parsed = NumberParser.parseDouble(value, Double.NaN);
+
+            // Assert
+            assertEquals(Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(parsed), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse a slice of a char buffer")
+    public void testBufferSlice() {
+        // Arrange
+        char[] row = "x,1,250,000,53.5,y".toCharArray();
+
+        // Act & Assert
+        assertEquals(1250000L, NumberParser.parseLong(row, 2, 11, -1));
+        assertEquals(53.5, NumberParser.parseDouble(row, 12, 16, -1.0));
+    }
+
+    // Helper method
+    private static String randomDecimal(Random random, int digits) {
+        StringBuilder value = new StringBuilder(random.nextBoolean() ? "-" : "");
+        int point = random.nextInt(digits + 1);
+        for (int i = 0; i < digits; i++) {
+            if (i == point && i > 0) value.append('.');
+            value.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextInt(4) == 0) value.append('e').append(random.nextInt(80) - 40);
+        return value.toString();
+    }
+}
@@ -0,0 +1,102 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelStatisticsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {ParallelStatistics.PARALLEL_THRESHOLD, ParallelStatistics.PARALLEL_THRESHOLD + 1, 300_001, 1_000_000})
+    @DisplayName("Parallel statistics should match the sequential engine exactly")
+    public void testMatchesSequential(int length) {
+        // Arrange
+        Random random = new Random(length);
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = (long) Math.exp(12 + 1.5 * random.nextGaussian());
+        }
+        long[] original = values.clone();
+
+        // Act
+        AssessmentStats parallel = ParallelStatistics.computeStats(values, length);
+        AssessmentStats sequential = CalculateStatistics.computeSequentialStats(values.clone(), length);
+
+        // Assert
+        assertEquals(sequential, parallel);
+        assertArrayEquals(original, values, "The parallel path should not reorder the values");
+    }
+
+    @Test
+    @DisplayName("Heavy duplicates should still give the exact median")
+    public void testDuplicates() {
+        // Arrange
+        Random random = new Random(5);
+        long[] values = new long[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(4) * 100_000L;
+        }
+
+        // Act
+        AssessmentStats parallel = ParallelStatistics.computeStats(values, values.length);
+
+        // Assert
+        assertEquals(CalculateStatistics.computeSequentialStats(values.clone(), values.length), parallel);
+    }
+
+    @Test
+    @DisplayName("Identical values and extreme longs should be handled")
+    public void testExtremes() {
+        // Arrange
+        long[] same = new long[100_000];
+        Arrays.fill(same, 42L);
+        long[] extremes = new long[100_001];
+        Random random = new Random(8);
+        for (int i = 0; i < extremes.length; i++) {
+            extremes[i] = random.nextLong();
+        }
+        extremes[0] = Long.MIN_VALUE;
+        extremes[1] = Long.MAX_VALUE;
+
+        // Act
+        AssessmentStats sameStats = ParallelStatistics.computeStats(same, same.length);
+        long median = ParallelStatistics.computeStats(extremes, extremes.length).median();
+
+        // Assert
+        assertEquals(42L, sameStats.median());
+        assertEquals(42L, sameStats.min());
+        assertEquals(4_200_000L, sameStats.sum());
+        long[] sorted = extremes.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[sorted.length / 2], median);
+    }
+
+    @Test
+    @DisplayName("Should run on a caller-supplied pool and fall back to sequential for small arrays")
+    public void testPoolAndThreshold() {
+        // Arrange
+        long[] small = {500000L, 100000L, 300000L};
+        long[] large = new long[100_000];
+        for (int i = 0; i < large.length; i++) large[i] = i;
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            // Act
+            AssessmentStats smallStats = ParallelStatistics.computeStats(small, small.length, pool);
+            AssessmentStats largeStats = ParallelStatistics.computeStats(large, large.length, pool);
+
+            // Assert
+            assertEquals(300000L, smallStats.median());
+            assertEquals(3, smallStats.count());
+            assertEquals(49_999L, largeStats.median()); // (49,999 + 50,000) / 2, rounded down like the sequential path
+            assertEquals(99_999L, largeStats.range());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
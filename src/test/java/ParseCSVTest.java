@@ -6,8 +6,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -177,6 +179,265 @@ class ParseCSVTest {
                 "Should throw IOException for invalid path: " + invalidPath);
     }
 
+    @Test
+    @DisplayName("readRows should hand each row to the consumer in file order")
+    void testReadRowsStreamsRowsInOrder() throws IOException {
+        // Arrange
+        List<String[]> rows = new ArrayList<>();
+
+        // Act
+        ParseCSV.readRows(standardCsvFile, rows::add);
+
+        // Assert
+        assertEquals(3, rows.size(), "Should see 3 data rows");
+        assertEquals("1", rows.get(0)[0], "First row should come first");
+        assertEquals("2", rows.get(1)[0], "Second row should come second");
+        assertEquals("PARK AVE", rows.get(2)[3], "Street name should be parsed correctly");
+    }
+
+    @Test
+    @DisplayName("readRows should produce the same rows as readData")
+    void testReadRowsMatchesReadData() throws IOException {
+        // Arrange
+        List<String[]> rows = new ArrayList<>();
+
+        // Act
+        ParseCSV.readRows(complexParenthesesFile, rows::add);
+        String[][] data = ParseCSV.readData(complexParenthesesFile);
+
+        // Assert
+        assertEquals(data.length, rows.size());
+        for (int i = 0; i < data.length; i++) {
+            assertArrayEquals(data[i], rows.get(i), "Row " + i + " should match");
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle RFC 4180 quoted fields")
+    void testReadDataQuotedFields() throws IOException {
+        // Arrange
+        Path quotedFile = Files.createTempFile("quoted", ".csv");
+        Files.write(quotedFile, Arrays.asList(
+                "Account,Suite,House,Street",
+                "1,,123,\"MAIN ST, \"\"THE\"\" SIDE\"",
+                "2,,124,\"SPLIT",
+                "STREET\""
+        ));
+
+        try {
+            // Act
+            String[][] data = ParseCSV.readData(quotedFile);
+
+            // Assert
+            assertEquals(2, data.length, "Embedded newline shouldn't start a new row");
+            assertEquals("MAIN ST, \"THE\" SIDE", data[0][3], "Should unescape quotes and keep commas");
+            assertEquals("SPLIT\nSTREET", data[1][3], "Should keep the embedded newline");
+        } finally {
+            Files.deleteIfExists(quotedFile);
+        }
+    }
+
+    @Test
+    @DisplayName("readColumns should resolve columns by header name and skip the ones not needed")
+    void testReadColumns() throws IOException {
+        // Arrange
+        List<String> values = new ArrayList<>();
+        List<Integer> fieldCounts = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+
+        // Act
+        CsvSchema schema = ParseCSV.readColumns(standardCsvFile, header -> {
+            int hood = header.require("hood");
+            int value = header.require("VALUE");
+            return row -> {
+                values.add(row.getField(hood) + "=" + row.getField(value));
+                fieldCounts.add(row.getFieldCount());
+                skipped.add(row.getField(0));
+            };
+        });
+
+        // Assert
+        assertEquals(List.of("Downtown=100000", "Downtown=200000", "Uptown=300000"), values);
+        assertEquals(List.of(9, 9, 9), fieldCounts);
+        assertEquals(List.of("", "", ""), skipped, "Columns that weren't required shouldn't be copied");
+        assertEquals(18, schema.size());
+    }
+
+    @Test
+    @DisplayName("readColumnsParallel should match readColumns")
+    void testReadColumnsParallel() throws IOException {
+        // Arrange
+        Path sampleFile = Path.of("src/main/resources/short_data.csv");
+        List<String> sequential = new ArrayList<>();
+        ParseCSV.readColumns(sampleFile, schema -> {
+            int account = schema.require("Account Number");
+            return row -> sequential.add(row.getField(account));
+        });
+
+        // Act
+        List<String> parallel = ParseCSV.readColumnsParallel(sampleFile, 4, schema -> {
+            int account = schema.require("Account Number");
+            return row -> row.getField(account);
+        });
+
+        // Assert
+        assertEquals(sequential, parallel);
+        assertEquals(2000, parallel.size());
+    }
+
+    @Test
+    @DisplayName("readColumns should fail up front when a required column is missing")
+    void testReadColumnsMissingColumn() {
+        // Act & Assert
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> ParseCSV.readColumns(standardCsvFile, schema -> {
+                    schema.require("Hood", "Latitude", "Assessed Value");
+                    return row -> fail("No rows should be read");
+                }));
+        assertTrue(error.getMessage().contains("[Latitude, Assessed Value]"));
+    }
+
+    @Test
+    @DisplayName("readRecords should let callers pick only the columns they need")
+    void testReadRecords() throws IOException {
+        // Arrange
+        List<String> hoods = new ArrayList<>();
+
+        // Act
+        ParseCSV.readRecords(standardCsvFile, row -> hoods.add(row.getField(6)));
+
+        // Assert
+        assertEquals(List.of("Downtown", "Downtown", "Uptown"), hoods);
+    }
+
+    @ParameterizedTest
+    @DisplayName("readRowsParallel should produce the same rows as the sequential reader")
+    @ValueSource(ints = {1, 2, 3, 8, 64})
+    void testReadRowsParallelMatchesSequential(int threads) throws IOException {
+        // Arrange
+        Path sampleFile = FileUtils.buildFilePath("short_data.csv");
+        String[][] expected = ParseCSV.readData(sampleFile);
+
+        // Act
+        List<String[]> actual = ParseCSV.readRowsParallel(sampleFile, threads, row -> row);
+
+        // Assert
+        assertEquals(expected.length, actual.size(), "Should see every row exactly once");
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual.get(i), "Row " + i + " should match");
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("readRowsParallel should not split rows on line breaks inside quoted fields")
+    @ValueSource(ints = {2, 3, 8, 64})
+    void testReadRowsParallelQuotedLineBreaks(int threads) throws IOException {
+        // Arrange: most of each row is a quoted field with line breaks, so splits land inside quotes
+        Path quotedFile = Files.createTempFile("quoted", ".csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("Account,\"Street\nName\",Note");
+        for (int i = 0; i < 200; i++) {
+            lines.add(i + ",\"" + i + " MAIN ST\n\"\"UNIT\"\", A\r\nREAR\",(" + i + ", \"x\")");
+        }
+        Files.write(quotedFile, lines);
+
+        try {
+            String[][] expected = ParseCSV.readData(quotedFile);
+
+            // Act
+            List<String[]> actual = ParseCSV.readRowsParallel(quotedFile, threads, row -> row);
+
+            // Assert
+            assertEquals(200, expected.length);
+            assertEquals(expected.length, actual.size(), "Should see every row exactly once");
+            for (int i = 0; i < expected.length; i++) {
+                assertArrayEquals(expected[i], actual.get(i), "Row " + i + " should match");
+            }
+            assertEquals("7 MAIN ST\n\"UNIT\", A\r\nREAR", actual.get(7)[1]);
+        } finally {
+            Files.deleteIfExists(quotedFile);
+        }
+    }
+
+    @Test
+    @DisplayName("readRowsParallel should match the sequential reader when an unclosed quote spans several splits")
+    void testReadRowsParallelUnclosedQuote() throws IOException {
+        // Arrange: the quote opened in row 10 never closes, so every later split falls inside it
+        Path unclosedFile = Files.createTempFile("unclosed", ".csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("Account,Street");
+        for (int i = 0; i < 100; i++) {
+            lines.add(i + (i == 10 ? ",\"" : ",") + i + " MAIN ST");
+        }
+        Files.write(unclosedFile, lines);
+
+        try {
+            String[][] expected = ParseCSV.readData(unclosedFile);
+
+            // Act
+            List<String[]> actual = ParseCSV.readRowsParallel(unclosedFile, 8, row -> row);
+
+            // Assert
+            assertEquals(11, expected.length);
+            assertEquals(expected.length, actual.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertArrayEquals(expected[i], actual.get(i), "Row " + i + " should match");
+            }
+        } finally {
+            Files.deleteIfExists(unclosedFile);
+        }
+    }
+
+    @Test
+    @DisplayName("readRowsParallel should handle tiny, header-only and empty files")
+    void testReadRowsParallelSmallFiles() throws IOException {
+        // Act
+        List<String[]> standard = ParseCSV.readRowsParallel(standardCsvFile, 16, row -> row);
+        List<String[]> headerOnly = ParseCSV.readRowsParallel(headerOnlyCsvFile, 4, row -> row);
+        List<String[]> empty = ParseCSV.readRowsParallel(emptyCsvFile, 4, row -> row);
+
+        // Assert
+        assertEquals(3, standard.size(), "Should have 3 rows of data");
+        assertEquals("3", standard.get(2)[0], "Rows should stay in file order");
+        assertTrue(headerOnly.isEmpty(), "Should have no data rows");
+        assertTrue(empty.isEmpty(), "Should have no data rows");
+    }
+
+    @Test
+    @DisplayName("streamData should lazily stream data rows without the header")
+    void testStreamData() throws IOException {
+        // Act
+        List<String[]> rows;
+        try (Stream<String[]> stream = ParseCSV.streamData(standardCsvFile)) {
+            rows = stream.toList();
+        }
+
+        // Assert
+        assertEquals(3, rows.size(), "Header should be skipped");
+        assertEquals("Downtown", rows.get(0)[6], "Neighbourhood should be parsed correctly");
+        assertEquals("Uptown", rows.get(2)[6], "Neighbourhood should be parsed correctly");
+    }
+
+    @Test
+    @DisplayName("streamData should handle completely empty CSV files")
+    void testStreamDataEmptyFile() throws IOException {
+        // Act & Assert
+        try (Stream<String[]> stream = ParseCSV.streamData(emptyCsvFile)) {
+            assertEquals(0, stream.count(), "Should have no data rows");
+        }
+    }
+
+    @Test
+    @DisplayName("streamData should throw IOException for non-existent file")
+    void testStreamDataNonExistentFile() {
+        // Arrange
+        Path nonExistentFile = Paths.get("non_existent_file.csv");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> ParseCSV.streamData(nonExistentFile),
+                "Should throw IOException for non-existent file");
+    }
+
     @AfterEach
     void tearDown() throws IOException {
         // Clean up all temporary files
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +47,68 @@ public class PrintReportTest {
         assertTrue(output.contains("Location: (53.546100, -113.493800)"));
     }
 
+    @Test
+    @DisplayName("printPropertyAssessment should add percentile ranks when given")
+    public void testPrintPropertyAssessmentWithPercentiles() {
+        // Arrange
+        PropertyAssessment assessment = createSamplePropertyAssessment();
+
+        // Act
+        PrintReport.printPropertyAssessment(assessment, 62.5, Double.NaN);
+        String output = outputStream.toString();
+
+        // Assert
+        assertTrue(output.contains("Location: (53.546100, -113.493800)" + System.lineSeparator()
+                + "Neighbourhood percentile: 62.5" + System.lineSeparator()));
+        assertFalse(output.contains("City percentile"));
+    }
+
+    @Test
+    @DisplayName("printDistributionStats should list the percentiles")
+    public void testPrintDistributionStats() {
+        // Arrange
+        DistributionStats stats = CalculateStatistics.computeDistribution(new long[]{100000, 200000, 300000, 400000, 500000}, 5);
+
+        // Act
+        PrintReport.printDistributionStats("Downtown", stats);
+        String output = outputStream.toString();
+
+        // Assert
+        assertTrue(output.contains("n: 5"));
+        assertTrue(output.contains("Standard deviation: $141,421.36"));
+        assertTrue(output.contains("5th percentile: $120,000"));
+        assertTrue(output.contains("Median: $300,000"));
+        assertTrue(output.contains("Interquartile range: $200,000"));
+    }
+
+    @Test
+    @DisplayName("printDistributionStats should handle empty statistics")
+    public void testPrintDistributionStatsEmpty() {
+        // Act
+        PrintReport.printDistributionStats("Nowhere", DistributionStats.EMPTY);
+
+        // Assert
+        assertEquals("Sorry, can't find data for Nowhere" + System.lineSeparator(), outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("printHistogram should print a bar per bucket plus out-of-range counts")
+    public void testPrintHistogram() {
+        // Arrange
+        Histogram histogram = Histogram.linear(0, 199_999, 2);
+        histogram.add(new long[]{50_000, 60_000, 150_000, 250_000}, 4);
+
+        // Act
+        PrintReport.printHistogram("Values", histogram);
+        String output = outputStream.toString();
+
+        // Assert
+        assertTrue(output.contains("$0 - $99,999: 2 " + "#".repeat(40)));
+        assertTrue(output.contains("$100,000 - $199,999: 1 " + "#".repeat(20) + System.lineSeparator()));
+        assertTrue(output.contains("$200,000 and above: 1"));
+        assertFalse(output.contains("Below"));
+    }
+
     @Test
     @DisplayName("printPropertyAssessment should handle null assessment")
     public void testPrintPropertyAssessmentWithNull() {
@@ -178,6 +241,56 @@ public class PrintReportTest {
         assertTrue(output.contains("Median: $520,000"));
     }
 
+    @Test
+    @DisplayName("printNeighbourhoodSuggestions should list suggestions, or print nothing without any")
+    public void testPrintNeighbourhoodSuggestions() {
+        // Act
+        PrintReport.printNeighbourhoodSuggestions(List.of("GLENORA", "GLENWOOD"));
+        PrintReport.printNeighbourhoodSuggestions(List.of());
+        String output = outputStream.toString();
+
+        // Assert
+        assertEquals("Did you mean: GLENORA, GLENWOOD?" + System.lineSeparator(), output);
+    }
+
+    @Test
+    @DisplayName("Typed printers should match the map-based output")
+    public void testTypedPrintersMatchMapPrinters() {
+        // Arrange
+        AssessmentStats stats = new AssessmentStats(500, 200000L, 1000000L, 800000L, 275000000L, 550000.0, 520000L);
+
+        // Act
+        PrintReport.printAllStats("Title", stats.toMap());
+        PrintReport.printHoodStats("Downtown", stats.toSummaryMap());
+        PrintReport.printClassStats("Residential", stats.toMap(), true);
+        PrintReport.printClassStats("Residential", stats.toSummaryMap(), false);
+        String mapOutput = outputStream.toString();
+        outputStream.reset();
+
+        PrintReport.printAllStats("Title", stats);
+        PrintReport.printHoodStats("Downtown", stats);
+        PrintReport.printClassStats("Residential", stats, true);
+        PrintReport.printClassStats("Residential", stats, false);
+        String typedOutput = outputStream.toString();
+
+        // Assert
+        assertEquals(mapOutput, typedOutput);
+        assertTrue(typedOutput.contains("The range is $800,000"));
+    }
+
+    @Test
+    @DisplayName("Typed printers should report empty statistics")
+    public void testTypedPrintersWithEmptyStats() {
+        // Act
+        PrintReport.printHoodStats("Nowhere", AssessmentStats.EMPTY);
+        PrintReport.printClassStats("Farm", AssessmentStats.EMPTY, false);
+        String output = outputStream.toString();
+
+        // Assert
+        assertTrue(output.contains("Sorry, can't find data for Nowhere"));
+        assertTrue(output.contains("Sorry, no properties found for assessment class: Farm"));
+    }
+
     // Helper method
     private PropertyAssessment createSamplePropertyAssessment() {
         Address address = new Address("101", "123", "Main St");
@@ -1,6 +1,11 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PropertyAssessmentTest {
@@ -44,7 +49,7 @@ public class PropertyAssessmentTest {
                 "101",       // suite
                 "123",       // house number
                 "Test Street", // street name
-                "",         // garbage field (not used)
+                "Y",        // garage
                 "",         // garbage field (not used)
                 "Downtown",  // neighbourhood
                 "Ward 1",    // ward
@@ -73,6 +78,7 @@ public class PropertyAssessmentTest {
         assertEquals(53.5461, assessment.getLocation().latitude());
         assertEquals(-113.4938, assessment.getLocation().longitude());
         assertEquals("Ward 1", assessment.getWard());
+        assertEquals("Y", assessment.getGarage());
         assertEquals(80.0, assessment.getAssessmentClassPercentage("Residential"));
         assertEquals(20.0, assessment.getAssessmentClassPercentage("Commercial"));
         assertEquals(0.0, assessment.getAssessmentClassPercentage("NonExistent"));
@@ -219,6 +225,99 @@ public class PropertyAssessmentTest {
         assertTrue(result.contains("300,000"));
     }
 
+    @Test
+    @DisplayName("Rows parsed with the same dictionaries should share column values")
+    public void testParsedValuesAreInterned() throws IOException {
+        // Arrange
+        String[] first = createTestData();
+        String[] second = createTestData();
+        second[0] = "10010001";
+        second[15] = "residential";
+        String csv = AssessmentDataGenerator.HEADER + "\n" + String.join(",", first) + "\n"
+                + String.join(",", second) + "\n";
+        AssessmentDictionaries dictionaries = new AssessmentDictionaries();
+
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv))) {
+            tokenizer.nextRow();
+            AssessmentColumns columns = AssessmentColumns.bind(new CsvSchema(tokenizer.toArray()));
+
+            // Act
+            tokenizer.nextRow();
+            PropertyAssessment a = new PropertyAssessment(tokenizer, columns, dictionaries);
+            tokenizer.nextRow();
+            PropertyAssessment b = new PropertyAssessment(tokenizer, columns, dictionaries);
+
+            // Assert
+            assertSame(a.getNeighbourhood(), b.getNeighbourhood());
+            assertSame(a.getWard(), b.getWard());
+            assertSame(a.getAddress().getStreetName(), b.getAddress().getStreetName());
+            assertEquals("residential", b.getAssessmentClasses()[0], "Each spelling of a class is kept");
+            assertEquals(dictionaries.assessmentClasses.codeOf("Residential"),
+                    dictionaries.assessmentClasses.codeOf("residential"), "Class codes should ignore case");
+        }
+    }
+
+    @Test
+    @DisplayName("Rows built from String[] should share values only when given dictionaries")
+    public void testStringRowsInterned() {
+        // Arrange
+        String[] first = createTestData();
+        String[] second = createTestData();
+        second[6] = new String("Downtown");
+        second[15] = new String("Residential");
+        AssessmentDictionaries dictionaries = new AssessmentDictionaries();
+
+        // Act
+        PropertyAssessment a = new PropertyAssessment(first, dictionaries);
+        PropertyAssessment b = new PropertyAssessment(second, dictionaries);
+        PropertyAssessment loose = new PropertyAssessment(second);
+
+        // Assert
+        assertSame(a.getNeighbourhood(), b.getNeighbourhood());
+        assertSame(a.getAssessmentClasses()[0], b.getAssessmentClasses()[0]);
+        assertSame(second[6], loose.getNeighbourhood());
+        assertTrue(a.hasSameData(loose));
+    }
+
+    @Test
+    @DisplayName("hasSameData should compare every field, unlike equals")
+    public void testHasSameData() {
+        // Arrange
+        PropertyAssessment original = new PropertyAssessment(createTestData());
+        String[] changed = createTestData();
+        changed[8] = "500001";
+
+        // Act & Assert
+        assertTrue(original.hasSameData(new PropertyAssessment(createTestData())));
+        assertEquals(original, new PropertyAssessment(changed));
+        assertFalse(original.hasSameData(new PropertyAssessment(changed)));
+        assertFalse(original.hasSameData(null));
+    }
+
+    @Test
+    @DisplayName("Reading through header-bound columns should match the positional constructor")
+    public void testConstructorFromColumns() throws IOException {
+        // Arrange: the same row with its columns in reverse order
+        String[] data = createTestData();
+        String[] header = AssessmentDataGenerator.HEADER.split(",");
+        Collections.reverse(Arrays.asList(header));
+        String[] reversed = data.clone();
+        Collections.reverse(Arrays.asList(reversed));
+        String csv = String.join(",", header) + "\n" + String.join(",", reversed) + "\n";
+
+        try (CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv))) {
+            tokenizer.nextRow();
+            AssessmentColumns columns = AssessmentColumns.bind(new CsvSchema(tokenizer.toArray()));
+            tokenizer.nextRow();
+
+            // Act
+            PropertyAssessment fromColumns = new PropertyAssessment(tokenizer, columns, new AssessmentDictionaries());
+
+            // Assert
+            assertTrue(new PropertyAssessment(data).hasSameData(fromColumns));
+        }
+    }
+
     // Helper methods
     private String[] createTestData() {
         return new String[] {
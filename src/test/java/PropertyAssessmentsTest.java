@@ -1,8 +1,17 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
-
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -82,6 +91,43 @@ public class PropertyAssessmentsTest {
         assertEquals(3, assessmentsList.size()); // Copy should have the added property
     }
 
+    @Test
+    @DisplayName("view should be a read-only window onto the assessments without copying")
+    public void testView() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        List<PropertyAssessment> view = assessments.view();
+
+        // Act
+        assessments.addAssessment(downtownProperty2);
+
+        // Assert
+        assertSame(view, assessments.view());
+        assertEquals(List.of(downtownProperty1, downtownProperty2), view); // Later additions show through
+        assertThrows(UnsupportedOperationException.class, () -> view.add(uptownProperty));
+        assertThrows(UnsupportedOperationException.class, () -> assessments.iterator().remove());
+    }
+
+    @Test
+    @DisplayName("size, forEach, stream and spliterator should all read the assessments in order")
+    public void testZeroCopyReads() {
+        // Arrange
+        addAll(downtownProperty1, downtownProperty2, uptownProperty);
+        List<PropertyAssessment> visited = new ArrayList<>();
+
+        // Act
+        assessments.forEach(visited::add);
+        long total = assessments.stream().parallel().mapToLong(PropertyAssessment::getAssessedValue).sum();
+        Spliterator<PropertyAssessment> spliterator = assessments.spliterator();
+
+        // Assert
+        assertEquals(3, assessments.size());
+        assertEquals(List.of(downtownProperty1, downtownProperty2, uptownProperty), visited);
+        assertEquals(1_500_000L, total);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(3, spliterator.estimateSize());
+    }
+
     @Test
     @DisplayName("findByAccountNumber should return property with matching account number")
     public void testFindByAccountNumber() {
@@ -112,6 +158,37 @@ public class PropertyAssessmentsTest {
         assertNull(found);
     }
 
+    @Test
+    @DisplayName("findByAccountNumber should return the first property for duplicate account numbers")
+    public void testFindByAccountNumberWithDuplicates() {
+        // Arrange
+        PropertyAssessment duplicate = createProperty("1001", "Uptown", 999999, "Commercial", 100.0);
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(duplicate);
+
+        // Act
+        PropertyAssessment found = assessments.findByAccountNumber("1001");
+
+        // Assert
+        assertSame(downtownProperty1, found);
+        assertNull(assessments.findByAccountNumber(null));
+    }
+
+    @Test
+    @DisplayName("findAll should return matching properties in request order")
+    public void testFindAll() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(downtownProperty2);
+        assessments.addAssessment(uptownProperty);
+
+        // Act
+        List<PropertyAssessment> found = assessments.findAll(List.of("1003", "9999", "1001"));
+
+        // Assert
+        assertEquals(List.of(uptownProperty, downtownProperty1), found);
+    }
+
     @Test
     @DisplayName("getNeighbourhood should find neighbourhood with case-insensitive name")
     public void testGetNeighbourhoodCaseInsensitive() {
@@ -131,6 +208,54 @@ public class PropertyAssessmentsTest {
         assertEquals(downtown1, downtown3);
     }
 
+    @Test
+    @DisplayName("getNeighbourhood should ignore surrounding whitespace and merge differently-cased names")
+    public void testGetNeighbourhoodNormalizesNames() {
+        // Arrange
+        PropertyAssessment shouting = createProperty("1005", "DOWNTOWN", 400000, "Residential", 100.0);
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(shouting);
+
+        // Act
+        Neighbourhood downtown = assessments.getNeighbourhood("  downtown ");
+
+        // Assert
+        assertNotNull(downtown);
+        assertEquals("Downtown", downtown.getName()); // Name as first seen
+        assertEquals(2, downtown.getCount());
+    }
+
+    @Test
+    @DisplayName("completeNeighbourhoodName should return prefix matches in alphabetical order")
+    public void testCompleteNeighbourhoodName() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(uptownProperty);
+        assessments.addAssessment(mixedUseProperty);
+        assessments.addAssessment(createProperty("1006", "Downs Park", 100000, "Residential", 100.0));
+
+        // Act & Assert
+        assertEquals(List.of("Downs Park", "Downtown"), assessments.completeNeighbourhoodName("down", 10));
+        assertEquals(List.of("Downs Park"), assessments.completeNeighbourhoodName("DOWN", 1));
+        assertEquals(List.of("Midtown"), assessments.completeNeighbourhoodName(" mid", 10));
+        assertTrue(assessments.completeNeighbourhoodName("Zzz", 10).isEmpty());
+        assertTrue(assessments.completeNeighbourhoodName(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("completeNeighbourhoodName should see neighbourhoods added after a previous lookup")
+    public void testCompleteNeighbourhoodNameAfterAdd() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.completeNeighbourhoodName("U", 10);
+
+        // Act
+        assessments.addAssessment(uptownProperty);
+
+        // Assert
+        assertEquals(List.of("Uptown"), assessments.completeNeighbourhoodName("U", 10));
+    }
+
     @Test
     @DisplayName("getNeighbourhood should return null for non-existent neighbourhood")
     public void testGetNeighbourhoodWithNonExistent() {
@@ -256,7 +381,356 @@ public class PropertyAssessmentsTest {
         assertEquals(0L, (Long)stats.get("median"));
     }
 
+    @Test
+    @DisplayName("loadCsv should build identical models sequentially and in parallel")
+    public void testLoadCsvParallelMatchesSequential() throws Exception {
+        // Arrange
+        Path sampleFile = FileUtils.buildFilePath("short_data.csv");
+
+        // Act
+        PropertyAssessments sequential = PropertyAssessments.loadCsv(sampleFile, 1);
+        PropertyAssessments parallel = PropertyAssessments.loadCsv(sampleFile, 8);
+
+        // Assert
+        List<PropertyAssessment> expected = sequential.getAssessments();
+        List<PropertyAssessment> actual = parallel.getAssessments();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            PropertyAssessment e = expected.get(i);
+            PropertyAssessment a = actual.get(i);
+            assertEquals(e.getAccountNumber(), a.getAccountNumber());
+            assertEquals(e.getAddress(), a.getAddress());
+            assertEquals(e.getNeighbourhood(), a.getNeighbourhood());
+            assertEquals(e.getWard(), a.getWard());
+            assertEquals(e.getAssessedValue(), a.getAssessedValue());
+            assertEquals(e.getLocation(), a.getLocation());
+            assertArrayEquals(e.getAssessmentClasses(), a.getAssessmentClasses());
+        }
+        assertEquals(sequential.getCityStatistics(), parallel.getCityStatistics());
+        assertEquals(sequential.getNeighbourhood("GORMAN").getCount(), parallel.getNeighbourhood("GORMAN").getCount());
+    }
+
+    @Test
+    @DisplayName("Class bitmaps should index rows with a positive share of each class")
+    public void testClassBitmaps() {
+        // Arrange
+        PropertyAssessment zeroShare = createProperty("1005", "Uptown", 900000, "Residential", 100.0, "Farmland", 0.0);
+        addAll(downtownProperty1, uptownProperty, mixedUseProperty, zeroShare);
+
+        // Act
+        Bitmap residential = assessments.getClassBitmap("RESIDENTIAL");
+        Bitmap commercial = assessments.getClassBitmap("commercial");
+
+        // Assert
+        assertEquals(List.of(downtownProperty1, mixedUseProperty, zeroShare), assessments.select(residential));
+        assertEquals(List.of(uptownProperty, mixedUseProperty), assessments.select(commercial));
+        assertTrue(assessments.getClassBitmap("Farmland").isEmpty(), "Zero share shouldn't be indexed");
+        assertTrue(assessments.getClassBitmap("Unknown").isEmpty());
+        assertEquals(List.of(mixedUseProperty), assessments.select(assessments.getMixedUseBitmap()));
+    }
+
+    @Test
+    @DisplayName("Combined class queries should feed into the statistics engine")
+    public void testClassBitmapCombinations() {
+        // Arrange
+        addAll(downtownProperty1, downtownProperty2, uptownProperty, mixedUseProperty);
+
+        // Act
+        Bitmap residentialOnly = assessments.getClassBitmap("Residential")
+                .andNot(assessments.getClassBitmap("Commercial"));
+        AssessmentStats stats = assessments.getStats(residentialOnly);
+
+        // Assert
+        assertEquals(2, stats.count());
+        assertEquals(800000L, stats.sum());
+        assertEquals(List.of(downtownProperty1, downtownProperty2), assessments.select(residentialOnly));
+    }
+
+    @Test
+    @DisplayName("Indexed class statistics should match a full scan")
+    public void testIndexedClassStatsMatchScan() {
+        // Arrange
+        addAll(downtownProperty1, downtownProperty2, uptownProperty, mixedUseProperty);
+
+        // Act & Assert
+        for (String className : new String[]{"Residential", "COMMERCIAL", "farmland", null}) {
+            assertEquals(CalculateStatistics.computeClassStats(assessments.getAssessments(), className),
+                    assessments.getAssessmentClassStats(className), "Class " + className);
+            assertEquals(CalculateStatistics.computeClassStats(assessments.getAssessments(), className),
+                    CalculateStatistics.computeClassStats(assessments, className), "Class " + className);
+        }
+        assertEquals(CalculateStatistics.calculateAssessmentClassStats(assessments.getAssessments(), "Commercial"),
+                assessments.getAssessmentClassStatistics("Commercial"));
+    }
+
+    @Test
+    @DisplayName("applyUpdate should leave the model identical to loading the new file from scratch")
+    public void testApplyUpdate() throws IOException {
+        // Arrange
+        Path oldFile = Files.createTempFile("assessments-old", ".csv");
+        Path newFile = Files.createTempFile("assessments-new", ".csv");
+        try {
+            new AssessmentDataGenerator(4).writeCsv(oldFile, 3000);
+            List<String> lines = new ArrayList<>(Files.readAllLines(oldFile));
+            List<String> updated = new ArrayList<>();
+            updated.add(lines.get(0));
+            for (int i = 1; i < lines.size(); i++) {
+                String[] fields = lines.get(i).split(",", -1);
+                if (i % 10 == 0) continue; // deleted
+                if (i % 7 == 0) fields[8] = String.valueOf(Long.parseLong(fields[8]) + 1000); // value changed
+                if (i % 11 == 0) fields[6] = "BRAND NEW HOOD"; // moved neighbourhood
+                updated.add(String.join(",", fields));
+            }
+            List<String> extra = new ArrayList<>(Files.readAllLines(oldFile).subList(1, 51));
+            for (String line : extra) {
+                updated.add("9" + line); // inserted under new account numbers
+            }
+            Files.write(newFile, updated);
+
+            PropertyAssessments model = PropertyAssessments.loadCsv(oldFile, 1);
+            long versionBefore = model.getVersion();
+
+            // Act
+            UpdateSummary summary = model.applyUpdate(newFile, 4);
+
+            // Assert
+            PropertyAssessments expected = PropertyAssessments.loadCsv(newFile, 1);
+            assertEquals(50, summary.inserted());
+            assertEquals(300, summary.deleted());
+            assertEquals(expected.getAssessments().size(), model.getAssessments().size());
+            assertEquals(3000 - 300 + 50, summary.inserted() + summary.updated() + summary.unchanged());
+            assertTrue(model.getVersion() > versionBefore);
+
+            for (PropertyAssessment property : expected.getAssessments()) {
+                assertTrue(property.hasSameData(model.findByAccountNumber(property.getAccountNumber())),
+                        "Account " + property.getAccountNumber());
+            }
+            assertNull(model.findByAccountNumber(AssessmentDataGenerator.accountNumber(9)), "Deleted row");
+            assertEquals(expected.getCityStats(), model.getCityStats());
+            assertEquals(expected.getAssessmentClassStats("COMMERCIAL"), model.getAssessmentClassStats("COMMERCIAL"));
+            assertEquals(sortedValues(expected.getMixedUseBitmap(), expected), sortedValues(model.getMixedUseBitmap(), model));
+            assertEquals(expected.getNeighbourhood("Brand New Hood").getAssessmentStats(),
+                    model.getNeighbourhood("Brand New Hood").getAssessmentStats());
+            assertEquals(expected.completeNeighbourhoodName("", 1000), model.completeNeighbourhoodName("", 1000));
+            assertEquals(expected.countInValueRange(300_000, 500_000), model.countInValueRange(300_000, 500_000));
+            assertEquals(expected.getValueIndex().valueAt(0), model.getValueIndex().valueAt(0));
+        } finally {
+            Files.deleteIfExists(oldFile);
+            Files.deleteIfExists(newFile);
+        }
+    }
+
+    @Test
+    @DisplayName("Value queries should answer range counts and top/bottom-N")
+    public void testValueQueries() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(downtownProperty2);
+        assessments.addAssessment(uptownProperty);
+        assessments.addAssessment(mixedUseProperty);
+
+        // Act & Assert
+        assertEquals(2, assessments.countInValueRange(300000, 500000));
+        assertEquals(List.of(downtownProperty2, uptownProperty), assessments.findInValueRange(400000, 750000));
+        assertEquals(List.of(mixedUseProperty, uptownProperty), assessments.findMostValuable(2));
+        assertEquals(List.of(downtownProperty1), assessments.findLeastValuable(1));
+        assertEquals(List.of(mixedUseProperty, uptownProperty, downtownProperty2, downtownProperty1),
+                assessments.findMostValuableInWard(" ward 1 ", 10));
+        assertTrue(assessments.findMostValuableInWard("Ward 2", 10).isEmpty());
+        assertTrue(assessments.findMostValuableInWard(null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Percentile ranks should place a property within its neighbourhood and the city")
+    public void testPercentileRanks() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(downtownProperty2);
+        assessments.addAssessment(uptownProperty);
+        assessments.addAssessment(mixedUseProperty);
+
+        // Act & Assert
+        assertEquals(75.0, assessments.getNeighbourhoodPercentileRank(downtownProperty2));
+        assertEquals(37.5, assessments.getCityPercentileRank(downtownProperty2));
+        assertEquals(50.0, assessments.getNeighbourhoodPercentileRank(uptownProperty));
+        assertEquals(87.5, assessments.getCityPercentileRank(mixedUseProperty));
+        assertTrue(Double.isNaN(assessments.getNeighbourhoodPercentileRank(
+                createProperty("2001", "Nowhere", 100000, "Residential", 100.0))));
+    }
+
+    @Test
+    @DisplayName("Distributions should be available for the city, neighbourhoods, wards and classes")
+    public void testDistributions() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assessments.addAssessment(downtownProperty2);
+        assessments.addAssessment(uptownProperty);
+        assessments.addAssessment(mixedUseProperty);
+
+        // Act & Assert
+        assertEquals(CalculateStatistics.computeDistribution(assessments.getAssessments()),
+                assessments.getCityDistribution());
+        assertEquals(400000.0, assessments.getNeighbourhoodDistribution("downtown").median());
+        assertEquals(600000.0, assessments.getWardDistribution("WARD 1").median());
+        assertEquals(750000.0, assessments.getAssessmentClassDistribution("Commercial").median());
+        assertEquals(DistributionStats.EMPTY, assessments.getNeighbourhoodDistribution("Nowhere"));
+        assertEquals(DistributionStats.EMPTY, assessments.getWardDistribution("Ward 9"));
+        assertEquals(DistributionStats.EMPTY, assessments.getWardDistribution(null));
+    }
+
+    @Test
+    @DisplayName("getHistogram should count every value, or only those passing the filter")
+    public void testHistogram() throws IOException {
+        // Arrange
+        PropertyAssessments sample = PropertyAssessments.loadCsv(Path.of("src/main/resources/short_data.csv"), 1);
+        Histogram layout = Histogram.logarithmic(1_000, 100_000_000, 4);
+        Histogram expected = layout.emptyCopy();
+        for (PropertyAssessment property : sample) expected.add(property.getAssessedValue());
+
+        // Act
+        Histogram histogram = sample.getHistogram(layout);
+        Histogram commercial = sample.getHistogram(layout, p -> p.getAssessmentClassPercentage("COMMERCIAL") > 0);
+
+        // Assert
+        assertEquals(expected, histogram);
+        assertEquals(sample.size(), histogram.getTotal());
+        assertEquals(sample.getAssessmentClassStats("COMMERCIAL").count(), commercial.getTotal());
+        assertEquals(0, layout.getTotal());
+    }
+
+    @Test
+    @DisplayName("The value index should be rebuilt after the collection changes")
+    public void testValueIndexRefreshedAfterChange() {
+        // Arrange
+        assessments.addAssessment(downtownProperty1);
+        assertEquals(List.of(downtownProperty1), assessments.findMostValuable(1));
+
+        // Act
+        assessments.addAssessment(mixedUseProperty);
+
+        // Assert
+        assertEquals(List.of(mixedUseProperty), assessments.findMostValuable(1));
+        assertEquals(2, assessments.getValueIndex().size());
+    }
+
+    @ParameterizedTest
+    @DisplayName("applyUpdate should leave the model untouched when the file has a malformed row")
+    @ValueSource(ints = {1, 4})
+    public void testApplyUpdateMalformedFile(int threads) throws IOException {
+        // Arrange: change every row, but break a coordinate halfway through
+        Path oldFile = Files.createTempFile("assessments-old", ".csv");
+        Path newFile = Files.createTempFile("assessments-new", ".csv");
+        try {
+            new AssessmentDataGenerator(5).writeCsv(oldFile, 2000);
+            List<String> lines = Files.readAllLines(oldFile);
+            List<String> updated = new ArrayList<>();
+            updated.add(lines.get(0));
+            for (int i = 1; i < lines.size(); i++) {
+                String[] fields = lines.get(i).split(",", -1);
+                fields[8] = String.valueOf(Long.parseLong(fields[8]) + 1000);
+                if (i == 1000) fields[9] = "not a latitude";
+                updated.add(String.join(",", fields));
+            }
+            Files.write(newFile, updated);
+
+            PropertyAssessments model = PropertyAssessments.loadCsv(oldFile, 1);
+            long versionBefore = model.getVersion();
+            AssessmentStats statsBefore = model.getCityStats();
+            List<PropertyAssessment> rowsBefore = model.getAssessments();
+
+            // Act & Assert
+            assertThrows(NumberFormatException.class, () -> model.applyUpdate(newFile, threads));
+            assertEquals(versionBefore, model.getVersion());
+            assertEquals(statsBefore, model.getCityStats());
+            assertEquals(rowsBefore.size(), model.size());
+            for (int i = 0; i < rowsBefore.size(); i++) {
+                assertSame(rowsBefore.get(i), model.view().get(i));
+            }
+        } finally {
+            Files.deleteIfExists(oldFile);
+            Files.deleteIfExists(newFile);
+        }
+    }
+
+    @Test
+    @DisplayName("loadCsv should find columns by header name, whatever their order")
+    public void testLoadCsvWithReorderedColumns() throws IOException {
+        // Arrange: move the last column (Assessment Class 3) to the front
+        Path sampleFile = Path.of("src/main/resources/short_data.csv");
+        Path reordered = Files.createTempFile("reordered", ".csv");
+        try {
+            List<String> lines = new ArrayList<>();
+            for (String line : Files.readAllLines(sampleFile)) {
+                int split = line.lastIndexOf(',');
+                lines.add(line.substring(split + 1) + "," + line.substring(0, split));
+            }
+            Files.write(reordered, lines);
+            PropertyAssessments expected = PropertyAssessments.loadCsv(sampleFile, 1);
+
+            // Act
+            PropertyAssessments sequential = PropertyAssessments.loadCsv(reordered, 1);
+            PropertyAssessments parallel = PropertyAssessments.loadCsv(reordered, 3);
+
+            // Assert
+            for (PropertyAssessments actual : List.of(sequential, parallel)) {
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertTrue(expected.view().get(i).hasSameData(actual.view().get(i)), "Row " + i);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(reordered);
+        }
+    }
+
+    @Test
+    @DisplayName("applyUpdate with an identical file should change nothing")
+    public void testApplyUpdateUnchanged() throws IOException {
+        // Arrange
+        Path sampleFile = Path.of("src/main/resources/short_data.csv");
+        PropertyAssessments model = PropertyAssessments.loadCsv(sampleFile, 1);
+        List<PropertyAssessment> before = model.getAssessments();
+        long versionBefore = model.getVersion();
+
+        // Act
+        UpdateSummary summary = model.applyUpdate(sampleFile, 1);
+
+        // Assert
+        assertFalse(summary.hasChanges());
+        assertEquals(before.size(), summary.unchanged());
+        assertEquals(before, model.getAssessments());
+        assertEquals(versionBefore, model.getVersion());
+    }
+
+    @Test
+    @DisplayName("getHoodAssessments should cover every neighbourhood, sorted by name")
+    public void testGetHoodAssessments() {
+        // Arrange
+        addAll(uptownProperty, downtownProperty1, mixedUseProperty, downtownProperty2);
+
+        // Act
+        List<HoodAssessment> hoods = assessments.getHoodAssessments();
+
+        // Assert
+        assertEquals(List.of("Downtown", "Midtown", "Uptown"), hoods.stream().map(HoodAssessment::getName).toList());
+        assertEquals(2, hoods.get(0).getPropertyCount());
+        assertEquals(assessments.getNeighbourhood("Downtown").getAssessmentStats().median(), hoods.get(0).getMedianValue());
+    }
+
     // Helper method
+    private List<Long> sortedValues(Bitmap rows, PropertyAssessments source) {
+        return source.select(rows).stream()
+                .map(PropertyAssessment::getAssessedValue)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    private void addAll(PropertyAssessment... properties) {
+        for (PropertyAssessment property : properties) {
+            assessments.addAssessment(property);
+        }
+    }
+
     private PropertyAssessment createProperty(String accountNumber, String neighbourhood,
                                               long assessedValue, String className, double percentage) {
         return createProperty(accountNumber, neighbourhood, assessedValue, className, percentage, null, 0.0);
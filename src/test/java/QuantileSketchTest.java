@@ -0,0 +1,119 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantileSketchTest {
+
+    @Test
+    @DisplayName("Small streams should give the exact median")
+    public void testExactWhileSmall() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch();
+        long[] values = {500000L, 100000L, 300000L, 200000L};
+
+        // Act
+        for (long value : values) sketch.add(value);
+
+        // Assert
+        assertTrue(sketch.isExact());
+        assertEquals(4, sketch.getCount());
+        assertEquals(250000L, sketch.median());
+        assertEquals(100000L, sketch.quantile(0.0));
+        assertEquals(500000L, sketch.quantile(1.0));
+    }
+
+    @Test
+    @DisplayName("An empty sketch should report zero")
+    public void testEmpty() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch();
+
+        // Act & Assert
+        assertEquals(0, sketch.getCount());
+        assertEquals(0L, sketch.median());
+        assertEquals(0L, sketch.quantile(0.9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.1, 0.25, 0.5, 0.75, 0.9, 0.99})
+    @DisplayName("Quantiles of a large stream should be within the rank error bound")
+    public void testRankError(double q) {
+        // Arrange
+        Random random = new Random(42);
+        long[] values = new long[200_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(12 + random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act
+        long estimate = sketch.quantile(q);
+
+        // Assert
+        double rank = rankOf(values, estimate) / (double) values.length;
+        assertFalse(sketch.isExact());
+        assertEquals(q, rank, 0.02, "Rank of the estimated " + q + " quantile");
+    }
+
+    @Test
+    @DisplayName("Memory should stay bounded however many values are added")
+    public void testBoundedMemory() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch();
+
+        // Act
+        for (long i = 0; i < 1_000_000; i++) {
+            sketch.add(i * 7919 % 1_000_003);
+        }
+
+        // Assert
+        assertEquals(1_000_000, sketch.getCount());
+        assertTrue(sketch.getRetained() < 4 * QuantileSketch.DEFAULT_K,
+                "Retained " + sketch.getRetained() + " values");
+    }
+
+    @Test
+    @DisplayName("Merging sketches should match sketching the combined stream")
+    public void testMerge() {
+        // Arrange
+        QuantileSketch lower = new QuantileSketch();
+        QuantileSketch upper = new QuantileSketch();
+        for (long i = 0; i < 50_000; i++) {
+            lower.add(i);
+            upper.add(50_000 + i);
+        }
+
+        // Act
+        lower.merge(upper);
+
+        // Assert
+        assertEquals(100_000, lower.getCount());
+        assertEquals(50_000, lower.median(), 2_000);
+        assertEquals(90_000, lower.quantile(0.9), 2_000);
+    }
+
+    @Test
+    @DisplayName("Should reject quantiles outside 0 to 1 and tiny k")
+    public void testInvalidArguments() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(2));
+    }
+
+    // Helper method: number of values <= the given one
+    private static int rankOf(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+}
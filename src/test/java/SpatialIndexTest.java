@@ -0,0 +1,166 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialIndexTest {
+
+    private List<PropertyAssessment> properties;
+
+    @BeforeEach
+    public void setUp() {
+        // Random properties spread over roughly the city's extent
+        Random random = new Random(21);
+        properties = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            properties.add(createProperty(i, 53.40 + random.nextDouble() * 0.3,
+                    -113.70 + random.nextDouble() * 0.45, 100_000 + random.nextInt(900_000)));
+        }
+    }
+
+    @Test
+    @DisplayName("Haversine distance should match known distances")
+    public void testDistance() {
+        // Act & Assert
+        assertEquals(111_195, SpatialIndex.distanceMeters(53, -113, 54, -113), 1);
+        assertEquals(0, SpatialIndex.distanceMeters(53.5, -113.5, 53.5, -113.5));
+        assertEquals(111_195 * Math.cos(Math.toRadians(53)),
+                SpatialIndex.distanceMeters(53, -113, 53, -112), 200);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Radius queries should match a brute-force scan")
+    @ValueSource(doubles = {50, 500, 2500, 20000})
+    public void testRadiusMatchesScan(double meters) {
+        // Arrange
+        SpatialIndex index = new SpatialIndex(properties);
+        Location centre = new Location(53.55, -113.49);
+
+        // Act
+        List<PropertyAssessment> found = index.findWithinRadius(centre, meters);
+
+        // Assert
+        List<PropertyAssessment> expected = properties.stream()
+                .filter(p -> distance(centre, p) <= meters)
+                .toList();
+        assertEquals(expected, found);
+        assertEquals(expected.size(), index.rowsWithinRadius(centre, meters).cardinality());
+        assertEquals(CalculateStatistics.computeStats(expected), index.getRadiusStats(centre, meters));
+    }
+
+    @Test
+    @DisplayName("Bounding-box queries should match a brute-force scan")
+    public void testBoxMatchesScan() {
+        // Arrange
+        SpatialIndex index = new SpatialIndex(properties);
+
+        // Act
+        List<PropertyAssessment> found = index.findInBox(53.50, -113.60, 53.53, -113.50);
+
+        // Assert
+        List<PropertyAssessment> expected = properties.stream()
+                .filter(p -> p.getLocation().latitude() >= 53.50 && p.getLocation().latitude() <= 53.53
+                        && p.getLocation().longitude() >= -113.60 && p.getLocation().longitude() <= -113.50)
+                .toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, found);
+        assertEquals(CalculateStatistics.computeStats(expected), index.getBoxStats(53.50, -113.60, 53.53, -113.50));
+        assertTrue(index.findInBox(10, 10, 11, 11).isEmpty());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Nearest neighbours should match sorting every property by distance")
+    @ValueSource(ints = {1, 10, 250})
+    public void testNearestMatchesScan(int k) {
+        // Arrange
+        SpatialIndex index = new SpatialIndex(properties, 100);
+
+        for (Location centre : new Location[]{new Location(53.55, -113.49), new Location(54.5, -112.0)}) {
+            // Act
+            List<PropertyAssessment> nearest = index.findNearest(centre, k);
+
+            // Assert
+            List<PropertyAssessment> expected = properties.stream()
+                    .sorted(Comparator.comparingDouble(p -> distance(centre, p)))
+                    .limit(k)
+                    .toList();
+            assertEquals(k, nearest.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(distance(centre, expected.get(i)), distance(centre, nearest.get(i)), 1e-9,
+                        "Neighbour " + i + " from " + centre);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Empty and non-finite inputs should be handled")
+    public void testEdgeCases() {
+        // Arrange
+        List<PropertyAssessment> withMissing = new ArrayList<>(properties.subList(0, 10));
+        withMissing.add(createProperty(99, Double.NaN, -113.5, 1));
+        SpatialIndex index = new SpatialIndex(withMissing);
+        SpatialIndex empty = new SpatialIndex(List.of());
+
+        // Act & Assert
+        assertEquals(10, index.size());
+        assertEquals(10, index.findNearest(new Location(53.5, -113.5), 50).size(), "Only indexed rows can be returned");
+        assertTrue(empty.findNearest(new Location(53.5, -113.5), 3).isEmpty());
+        assertTrue(empty.getRadiusStats(new Location(53.5, -113.5), 1000).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new SpatialIndex(properties, 0));
+    }
+
+    @Test
+    @DisplayName("The index should keep answering from the rows it was built from")
+    public void testIndexIsSnapshot() {
+        // Arrange
+        List<PropertyAssessment> rows = new ArrayList<>(properties.subList(0, 100));
+        Location centre = rows.get(0).getLocation();
+        SpatialIndex index = new SpatialIndex(rows);
+        List<PropertyAssessment> before = index.findNearest(centre, 5);
+
+        // Act: change the list so the old row numbers point elsewhere, or past the end
+        rows.clear();
+        rows.addAll(properties.subList(100, 150));
+
+        // Assert
+        assertEquals(before, index.findNearest(centre, 5));
+        assertEquals(100, index.findInBox(-90, -180, 90, 180).size());
+    }
+
+    @Test
+    @DisplayName("PropertyAssessments should rebuild its spatial index after new additions")
+    public void testPropertyAssessmentsIndex() {
+        // Arrange
+        PropertyAssessments assessments = new PropertyAssessments();
+        assessments.addAssessment(properties.get(0));
+        Location centre = properties.get(0).getLocation();
+        assertEquals(1, assessments.findWithinRadius(centre, 10).size());
+
+        // Act
+        PropertyAssessment neighbour = createProperty(10_000, centre.latitude() + 0.00001, centre.longitude(), 5);
+        assessments.addAssessment(neighbour);
+
+        // Assert
+        assertEquals(2, assessments.findWithinRadius(centre, 10).size());
+        assertEquals(neighbour, assessments.findNearest(new Location(centre.latitude() + 0.00002, centre.longitude()), 1).get(0));
+    }
+
+    // Helper methods
+    private PropertyAssessment createProperty(int id, double latitude, double longitude, long value) {
+        return new PropertyAssessment(String.valueOf(1_000_000 + id), new Address("", "1", "Main St"), "Hood",
+                value, new Location(latitude, longitude), new String[]{"RESIDENTIAL"}, new double[]{100.0}, "Ward 1");
+    }
+
+    private double distance(Location centre, PropertyAssessment property) {
+        return SpatialIndex.distanceMeters(centre.latitude(), centre.longitude(),
+                property.getLocation().latitude(), property.getLocation().longitude());
+    }
+}
@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingStatisticsTest {
+
+    private static final Path SAMPLE_FILE = Path.of("src/main/resources/short_data.csv");
+
+    @Test
+    @DisplayName("City statistics should match loading the file into PropertyAssessments")
+    public void testCityStatsMatchLoadedData() throws IOException {
+        // Arrange
+        PropertyAssessments loaded = PropertyAssessments.loadCsv(SAMPLE_FILE, 1);
+
+        // Act
+        StreamingStatistics streamed = StreamingStatistics.read(SAMPLE_FILE);
+
+        // Assert
+        assertExactParts(loaded.getCityStats(), streamed.getCityStats());
+    }
+
+    @Test
+    @DisplayName("Small neighbourhoods and classes should match exactly, medians included")
+    public void testGroupStatsMatchLoadedData() throws IOException {
+        // Arrange
+        PropertyAssessments loaded = PropertyAssessments.loadCsv(SAMPLE_FILE, 1);
+
+        // Act
+        StreamingStatistics streamed = StreamingStatistics.read(SAMPLE_FILE);
+
+        // Assert
+        List<String> hoodNames = streamed.getNeighbourhoodNames();
+        assertFalse(hoodNames.isEmpty());
+        for (String hoodName : hoodNames) {
+            AssessmentStats expected = loaded.getNeighbourhood(hoodName).getAssessmentStats();
+            AssessmentStats actual = streamed.getNeighbourhoodStats(hoodName);
+            assertExactParts(expected, actual);
+            if (expected.count() < QuantileSketch.DEFAULT_K) {
+                assertEquals(expected.median(), actual.median(), hoodName);
+            }
+        }
+        for (String className : streamed.getAssessmentClassNames()) {
+            assertExactParts(loaded.getAssessmentClassStats(className), streamed.getAssessmentClassStats(className));
+        }
+        assertEquals(AssessmentStats.EMPTY, streamed.getNeighbourhoodStats("Nowhere"));
+    }
+
+    @Test
+    @DisplayName("Medians of large groups should be within the sketch's rank error")
+    public void testApproximateMedians() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("streaming", ".csv");
+        try {
+            new AssessmentDataGenerator(7).writeCsv(file, 50_000);
+            PropertyAssessments loaded = PropertyAssessments.loadCsv(file, 1);
+
+            // Act
+            StreamingStatistics streamed = StreamingStatistics.read(file);
+
+            // Assert
+            assertExactParts(loaded.getCityStats(), streamed.getCityStats());
+            assertMedianRank(values(loaded.getAssessments()), streamed.getCityStats().median());
+            for (String ward : streamed.getWardNames()) {
+                AssessmentStats actual = streamed.getWardStats(ward);
+                List<PropertyAssessment> inWard = loaded.getAssessments().stream()
+                        .filter(p -> ward.equals(p.getWard()))
+                        .toList();
+                assertEquals(inWard.size(), actual.count(), ward);
+                assertMedianRank(values(inWard), actual.median());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("readCityStats should read only the value column and match the full statistics")
+    public void testReadCityStats() throws IOException {
+        // Act
+        AssessmentStats cityOnly = StreamingStatistics.readCityStats(SAMPLE_FILE);
+
+        // Assert
+        assertEquals(StreamingStatistics.read(SAMPLE_FILE).getCityStats(), cityOnly);
+    }
+
+    @Test
+    @DisplayName("Reading a file twice should double the counts and keep the extremes")
+    public void testMultipleFiles() throws IOException {
+        // Arrange
+        AssessmentStats single = StreamingStatistics.read(SAMPLE_FILE).getCityStats();
+
+        // Act
+        StreamingStatistics separate = StreamingStatistics.read(SAMPLE_FILE);
+        separate.merge(StreamingStatistics.read(SAMPLE_FILE));
+        AssessmentStats twice = StreamingStatistics.read(SAMPLE_FILE, SAMPLE_FILE).getCityStats();
+
+        // Assert
+        assertEquals(single.count() * 2, twice.count());
+        assertEquals(single.count() * 2L, separate.getRowCount());
+        assertEquals(single.sum() * 2, twice.sum());
+        assertEquals(single.min(), twice.min());
+        assertEquals(single.max(), twice.max());
+        assertEquals(single.mean(), twice.mean(), 0.001);
+        assertExactParts(twice, separate.getCityStats());
+        assertEquals(twice.median(), separate.getCityStats().median(), single.median() * 0.05);
+    }
+
+    // Helper methods
+    private static void assertExactParts(AssessmentStats expected, AssessmentStats actual) {
+        assertEquals(expected.count(), actual.count(), "count");
+        assertEquals(expected.min(), actual.min(), "min");
+        assertEquals(expected.max(), actual.max(), "max");
+        assertEquals(expected.range(), actual.range(), "range");
+        assertEquals(expected.mean(), actual.mean(), 0.001, "mean");
+    }
+
+    private static void assertMedianRank(long[] values, long median) {
+        Arrays.sort(values);
+        int below = 0;
+        while (below < values.length && values[below] < median) below++;
+        int atOrBelow = below;
+        while (atOrBelow < values.length && values[atOrBelow] == median) atOrBelow++;
+
+        // Any rank the estimate occupies should be within 2% of the middle
+        double middle = values.length / 2.0;
+        double tolerance = values.length * 0.02 + 1;
+        assertTrue(below <= middle + tolerance && atOrBelow >= middle - tolerance,
+                "Median " + median + " has rank " + below + ".." + atOrBelow + " of " + values.length);
+    }
+
+    private static long[] values(List<PropertyAssessment> properties) {
+        return properties.stream().mapToLong(PropertyAssessment::getAssessedValue).toArray();
+    }
+}
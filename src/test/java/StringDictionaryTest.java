@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringDictionaryTest {
+
+    @Test
+    @DisplayName("encode should assign sequential codes to new values")
+    public void testEncodeAssignsSequentialCodes() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+
+        // Act & Assert
+        assertEquals(0, dictionary.encode("GORMAN"));
+        assertEquals(1, dictionary.encode("STRATHEARN"));
+        assertEquals(0, dictionary.encode("GORMAN"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("decode should return the original value")
+    public void testDecode() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+        int code = dictionary.encode("Dene Ward");
+
+        // Act & Assert
+        assertEquals("Dene Ward", dictionary.decode(code));
+    }
+
+    @Test
+    @DisplayName("null should map to NO_CODE and back")
+    public void testNullValues() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+
+        // Act & Assert
+        assertEquals(StringDictionary.NO_CODE, dictionary.encode(null));
+        assertNull(dictionary.decode(StringDictionary.NO_CODE));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("codeOf should not add missing values")
+    public void testCodeOf() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.encode("RESIDENTIAL");
+
+        // Act & Assert
+        assertEquals(0, dictionary.codeOf("RESIDENTIAL"));
+        assertEquals(StringDictionary.NO_CODE, dictionary.codeOf("FARMLAND"));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("Equal values should be interned to a single instance")
+    public void testIntern() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+        String first = new String("DOWNTOWN");
+        String second = new String("DOWNTOWN");
+
+        // Act & Assert
+        assertSame(dictionary.intern(first), dictionary.intern(second));
+        assertSame(first, dictionary.intern(second), "The first instance seen should be kept");
+        assertNull(dictionary.intern(null));
+    }
+
+    @Test
+    @DisplayName("ignoringCase codes should ignore case but interning should keep the original spelling")
+    public void testIgnoringCase() {
+        // Arrange
+        StringDictionary dictionary = StringDictionary.ignoringCase();
+
+        // Act
+        int upper = dictionary.encode("RESIDENTIAL");
+        int lower = dictionary.encode("residential");
+        int other = dictionary.encode("COMMERCIAL");
+
+        // Assert
+        assertEquals(upper, lower);
+        assertNotEquals(upper, other);
+        assertEquals("residential", dictionary.intern("residential"));
+        assertEquals("RESIDENTIAL", dictionary.decode(lower));
+        assertEquals(upper, dictionary.codeOf("Residential"), "codeOf should find spellings not seen yet");
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("A case-sensitive dictionary should code each spelling separately")
+    public void testCaseSensitive() {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+
+        // Act & Assert
+        assertNotEquals(dictionary.encode("Farmland"), dictionary.encode("FARMLAND"));
+        assertEquals(StringDictionary.NO_CODE, dictionary.codeOf("farmland"));
+    }
+
+    @Test
+    @DisplayName("Concurrent encoding should hand out one code per distinct value")
+    public void testConcurrentEncoding() throws Exception {
+        // Arrange
+        StringDictionary dictionary = new StringDictionary();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<int[]>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    int[] codes = new int[500];
+                    for (int i = 0; i < codes.length; i++) {
+                        codes[i] = dictionary.encode(new String("Hood " + i));
+                    }
+                    return codes;
+                }));
+            }
+
+            // Assert
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+            assertEquals(500, dictionary.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueIndexTest {
+
+    private List<PropertyAssessment> properties;
+
+    @BeforeEach
+    public void setUp() {
+        // Random values with plenty of ties
+        Random random = new Random(23);
+        properties = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            properties.add(createProperty(i, 1000 * (100 + random.nextInt(900)), "Ward " + (1 + i % 12)));
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("Range counts and lookups should match a brute-force scan")
+    @CsvSource({"300000, 500000", "0, 99999", "100000, 100000", "550000, 2000000", "500000, 300000"})
+    public void testRangeMatchesScan(long min, long max) {
+        // Arrange
+        ValueIndex index = new ValueIndex(properties);
+
+        // Act
+        List<PropertyAssessment> found = index.findInRange(min, max);
+
+        // Assert
+        List<PropertyAssessment> expected = properties.stream()
+                .filter(p -> p.getAssessedValue() >= min && p.getAssessedValue() <= max)
+                .sorted(Comparator.comparingLong(PropertyAssessment::getAssessedValue))
+                .toList();
+        assertEquals(expected, found);
+        assertEquals(expected.size(), index.countInRange(min, max));
+        assertEquals(expected.size(), index.rowsInRange(min, max).cardinality());
+        assertEquals(CalculateStatistics.computeStats(expected), index.getRangeStats(min, max));
+    }
+
+    @Test
+    @DisplayName("Ranks should count the properties valued below a value")
+    public void testRank() {
+        // Arrange
+        ValueIndex index = new ValueIndex(properties);
+        long value = 450_000;
+
+        // Act
+        int rank = index.rankOf(value);
+
+        // Assert
+        assertEquals(properties.stream().filter(p -> p.getAssessedValue() < value).count(), rank);
+        assertEquals(value, index.valueAt(rank));
+        assertTrue(index.valueAt(rank - 1) < value);
+        assertEquals(0, index.rankOf(Long.MIN_VALUE));
+        assertEquals(properties.size(), index.rankOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Percentile ranks should match counting the properties below and tied")
+    public void testPercentileRank() {
+        // Arrange
+        ValueIndex index = new ValueIndex(properties);
+        long value = properties.get(0).getAssessedValue();
+
+        // Act
+        double percentile = index.percentileRank(value);
+
+        // Assert
+        long below = properties.stream().filter(p -> p.getAssessedValue() < value).count();
+        long tied = properties.stream().filter(p -> p.getAssessedValue() == value).count();
+        assertEquals(100.0 * (below + tied / 2.0) / properties.size(), percentile, 1e-9);
+    }
+
+    @Test
+    @DisplayName("getDistribution should match computing it from the properties")
+    public void testDistribution() {
+        // Act
+        DistributionStats stats = new ValueIndex(properties).getDistribution();
+
+        // Assert
+        assertEquals(CalculateStatistics.computeDistribution(properties), stats);
+    }
+
+    @Test
+    @DisplayName("Top and bottom N should match sorting the whole list")
+    public void testTopAndBottom() {
+        // Arrange
+        ValueIndex index = new ValueIndex(properties);
+        List<PropertyAssessment> ascending = properties.stream()
+                .sorted(Comparator.comparingLong(PropertyAssessment::getAssessedValue))
+                .toList();
+
+        // Act
+        List<PropertyAssessment> top = index.top(100);
+        List<PropertyAssessment> bottom = index.bottom(100);
+        List<PropertyAssessment> wardTop = index.top(10, p -> p.getWard().equals("Ward 3"));
+
+        // Assert
+        assertEquals(ascending.subList(0, 100), bottom);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(ascending.get(ascending.size() - 1 - i).getAssessedValue(), top.get(i).getAssessedValue());
+        }
+        assertEquals(10, wardTop.size());
+        long highestInWard = properties.stream().filter(p -> p.getWard().equals("Ward 3"))
+                .mapToLong(PropertyAssessment::getAssessedValue).max().orElseThrow();
+        assertEquals(highestInWard, wardTop.get(0).getAssessedValue());
+        assertEquals(properties.size(), index.top(10_000).size());
+        assertTrue(index.top(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Equal values should keep their row order")
+    public void testTiesInRowOrder() {
+        // Arrange
+        List<PropertyAssessment> tied = List.of(createProperty(0, 5, "Ward 1"), createProperty(1, 3, "Ward 1"),
+                createProperty(2, 5, "Ward 1"), createProperty(3, 5, "Ward 1"));
+
+        // Act
+        ValueIndex index = new ValueIndex(tied);
+
+        // Assert
+        assertEquals(List.of(tied.get(1), tied.get(0), tied.get(2), tied.get(3)), index.bottom(4));
+    }
+
+    @Test
+    @DisplayName("Values too far apart to pack with the row number should still be ordered")
+    public void testExtremeValues() {
+        // Arrange
+        List<PropertyAssessment> extremes = List.of(createProperty(0, Long.MAX_VALUE, "Ward 1"),
+                createProperty(1, -5, "Ward 1"), createProperty(2, Long.MIN_VALUE, "Ward 1"),
+                createProperty(3, 0, "Ward 1"));
+
+        // Act
+        ValueIndex index = new ValueIndex(extremes);
+
+        // Assert
+        assertEquals(List.of(extremes.get(2), extremes.get(1), extremes.get(3), extremes.get(0)), index.bottom(4));
+        assertEquals(2, index.countInRange(-10, 10));
+        assertEquals(Long.MAX_VALUE, index.valueAt(3));
+    }
+
+    @Test
+    @DisplayName("The index should keep answering from the rows it was built from")
+    public void testIndexIsSnapshot() {
+        // Arrange
+        List<PropertyAssessment> rows = new ArrayList<>(properties.subList(0, 100));
+        ValueIndex index = new ValueIndex(rows);
+        List<PropertyAssessment> top = index.top(5);
+        List<PropertyAssessment> bottom = index.bottom(5);
+
+        // Act: change the list so the old row numbers point elsewhere, or past the end
+        rows.clear();
+        rows.addAll(properties.subList(100, 150));
+
+        // Assert
+        assertEquals(top, index.top(5));
+        assertEquals(bottom, index.bottom(5));
+        assertEquals(100, index.findInRange(Long.MIN_VALUE, Long.MAX_VALUE).size());
+    }
+
+    @Test
+    @DisplayName("An empty index should answer every query with nothing")
+    public void testEmpty() {
+        // Act
+        ValueIndex index = new ValueIndex(List.of());
+
+        // Assert
+        assertEquals(0, index.size());
+        assertEquals(0, index.countInRange(0, Long.MAX_VALUE));
+        assertEquals(0, index.rankOf(100));
+        assertTrue(index.top(5).isEmpty());
+        assertEquals(AssessmentStats.EMPTY, index.getRangeStats(0, 100));
+    }
+
+    // Helper methods
+    private PropertyAssessment createProperty(int id, long value, String ward) {
+        return new PropertyAssessment(String.valueOf(1_000_000 + id), new Address("", "1", "Main St"), "Hood",
+                value, new Location(53.5, -113.5), new String[]{"RESIDENTIAL"}, new double[]{100.0}, ward);
+    }
+}